@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GradeList;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares evaluating a search over the whole roster on one thread and on the common fork-join pool.
+ * The keywords are too short to be looked up in the trigram index, so every person is tested.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelPersonFilterBenchmark {
+
+    @Param({"20000", "200000"})
+    private int rosterSize;
+
+    private List<Person> roster;
+    private PersonContainsKeywordPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(createPerson(i));
+        }
+        predicate = new PersonContainsKeywordPredicate(List.of("q", "zz", "x9", "42"));
+    }
+
+    @Benchmark
+    public Set<String> sequentialFilter() {
+        return roster.stream()
+                .filter(predicate)
+                .map(Person::getIdentityKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark
+    public Set<String> parallelFilter() {
+        return ParallelPersonFilter.findMatchingIdentityKeys(roster, predicate);
+    }
+
+    private static Person createPerson(int i) {
+        return new Person(new Name("Student " + i), new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                new Remark(""), new HashSet<Tag>(), new HashSet<Attribute>(), new LessonList(), new GradeList());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the checks {@code schedule} makes before adding a lesson to a student with years of weekly lessons.
+ * The legacy path compares the new lesson with every lesson in the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LessonListBenchmark {
+
+    @Param({"100", "1000"})
+    private int lessonCount;
+
+    private LessonList lessonList;
+    private Lesson newLesson;
+    private Lesson markedLesson;
+
+    @Setup
+    public void setUp() {
+        ArrayList<Lesson> lessons = new ArrayList<>(lessonCount);
+        LocalDate firstLesson = LocalDate.of(2020, 1, 6);
+        for (int week = 0; week < lessonCount; week++) {
+            lessons.add(new Lesson(LocalTime.of(14, 0), LocalTime.of(16, 0), firstLesson.plusWeeks(week), "Math"));
+        }
+        lessonList = new LessonList(lessons);
+        // Falls between two existing lessons, so neither check can stop early.
+        newLesson = new Lesson(LocalTime.of(14, 0), LocalTime.of(16, 0),
+                firstLesson.plusWeeks(lessonCount / 2).plusDays(1), "Math");
+        Lesson middleLesson = lessonList.get(lessonCount / 2);
+        markedLesson = new Lesson(middleLesson.getStart(), middleLesson.getEnd(), middleLesson.getDate(),
+                middleLesson.getEndDate(), middleLesson.getSub(), true);
+    }
+
+    @Benchmark
+    public boolean legacyOverlapCheck() {
+        for (Lesson lesson : lessonList.getLessons()) {
+            if (lesson.overlapsWith(newLesson)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean indexedOverlapCheck() {
+        return lessonList.hasDuplicates(newLesson) || lessonList.hasOverlappingLesson(newLesson);
+    }
+
+    @Benchmark
+    public LessonList add() {
+        return lessonList.add(newLesson);
+    }
+
+    @Benchmark
+    public LessonList mark() {
+        return lessonList.set(lessonCount / 2, markedLesson);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting 10k lessons before and after {@code Lesson} kept its start and end as epoch minutes.
+ * The legacy comparator builds the {@code LocalDateTime} objects that {@code compareTo} used to build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LessonSortBenchmark {
+
+    private static final int LESSON_COUNT = 10_000;
+
+    private static final Comparator<Lesson> LEGACY_ORDER = (first, second) -> {
+        int startComparison = first.getDate().atTime(first.getStart())
+                .compareTo(second.getDate().atTime(second.getStart()));
+        if (startComparison != 0) {
+            return startComparison;
+        }
+        return first.getEndDate().atTime(first.getEnd()).compareTo(second.getEndDate().atTime(second.getEnd()));
+    };
+
+    private List<Lesson> shuffledLessons;
+
+    @Setup
+    public void setUp() {
+        shuffledLessons = new ArrayList<>(LESSON_COUNT);
+        LocalDate firstDate = LocalDate.of(2020, 1, 6);
+        for (int i = 0; i < LESSON_COUNT; i++) {
+            LocalTime start = LocalTime.of(8 + i % 10, 0);
+            shuffledLessons.add(new Lesson(start, start.plusHours(1), firstDate.plusDays(i / 10), "Math"));
+        }
+        Collections.shuffle(shuffledLessons, new Random(42));
+    }
+
+    @Benchmark
+    public List<Lesson> legacySort() {
+        List<Lesson> lessons = new ArrayList<>(shuffledLessons);
+        lessons.sort(LEGACY_ORDER);
+        return lessons;
+    }
+
+    @Benchmark
+    public List<Lesson> epochMinuteSort() {
+        List<Lesson> lessons = new ArrayList<>(shuffledLessons);
+        Collections.sort(lessons);
+        return lessons;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares testing every person against search keywords before and after the lower-cased fields and keywords were
+ * computed once. Run with {@code -Pjmh.profilers=gc} to see that the current {@code test} allocates nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonContainsKeywordPredicateBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> roster;
+    private List<String> keywords;
+    private PersonContainsKeywordPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(createPerson(i));
+        }
+        // Worst case: no person matches, so every keyword is tested against every field.
+        keywords = List.of("Absent", "99999999", "nobody@");
+        predicate = new PersonContainsKeywordPredicate(keywords);
+    }
+
+    @Benchmark
+    public int legacyTest() {
+        int matches = 0;
+        for (Person person : roster) {
+            String name = person.getName().fullName.toLowerCase();
+            String phone = person.getPhone().value.toLowerCase();
+            String email = person.getEmail().value.toLowerCase();
+            if (keywords.stream().anyMatch(keyword -> {
+                String lowerKeyword = keyword.toLowerCase().trim();
+                return name.contains(lowerKeyword) || phone.contains(lowerKeyword) || email.contains(lowerKeyword);
+            })) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int precomputedTest() {
+        int matches = 0;
+        for (Person person : roster) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static Person createPerson(int i) {
+        return new Person(new Name("Student " + i), new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                new Remark(""), new HashSet<Tag>(), new HashSet<Attribute>(), new LessonList(), new GradeList());
+    }
+}
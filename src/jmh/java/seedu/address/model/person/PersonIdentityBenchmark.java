@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the duplicate-check path before and after {@code Person} cached its identity key.
+ * The legacy path normalizes both names on every comparison and scans the whole roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonIdentityBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> roster;
+    private UniquePersonList uniquePersonList;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        roster = new ArrayList<>(rosterSize);
+        uniquePersonList = new UniquePersonList();
+        for (int i = 0; i < rosterSize; i++) {
+            Person person = createPerson("Student " + i);
+            roster.add(person);
+            uniquePersonList.add(person);
+        }
+        // Worst case for the legacy scan: the probe matches nobody, so every element is compared.
+        absentPerson = createPerson("Student  Absent");
+    }
+
+    @Benchmark
+    public boolean legacyDuplicateCheck() {
+        String probeName = absentPerson.getName().fullName.replaceAll("\\s+", "").toLowerCase();
+        return roster.stream().anyMatch(person ->
+                person.getName().fullName.replaceAll("\\s+", "").toLowerCase().equals(probeName));
+    }
+
+    @Benchmark
+    public boolean indexedDuplicateCheck() {
+        return uniquePersonList.contains(absentPerson);
+    }
+
+    private static Person createPerson(String name) {
+        return new Person(new Name(name), new Phone("91234567"), new Email("student@example.com"),
+                new Address("Blk 1 Example Street"), new Remark(""), new HashSet<Tag>(), new HashSet<Attribute>(),
+                new LessonList(), new GradeList());
+    }
+}
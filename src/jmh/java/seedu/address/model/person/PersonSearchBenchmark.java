@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares a partial-match search that tests every person with one that only tests the candidates found in the
+ * trigram index, as the filtered person list does after a search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rosterSize;
+
+    private UniquePersonList uniquePersonList;
+    private PersonContainsKeywordPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        uniquePersonList = new UniquePersonList();
+        for (int i = 0; i < rosterSize; i++) {
+            uniquePersonList.add(createPerson(i));
+        }
+        predicate = new PersonContainsKeywordPredicate(List.of("student4242"));
+    }
+
+    @Benchmark
+    public int scanSearch() {
+        int matches = 0;
+        for (Person person : uniquePersonList) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int indexedSearch() {
+        Set<String> candidates = uniquePersonList.findCandidateIdentityKeysWithKeywords(predicate.getKeywords())
+                .get();
+        int matches = 0;
+        for (Person person : uniquePersonList) {
+            if (candidates.contains(person.getIdentityKey()) && predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static Person createPerson(int i) {
+        return new Person(new Name("Student " + i), new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                new Remark(""), new HashSet<Tag>(), new HashSet<Attribute>(), new LessonList(), new GradeList());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares how a student is updated by the mark, grade, tag and remark commands before and after {@code Person}
+ * gained its {@code with...} methods. The legacy path rebuilds the person through the full constructor, which copies
+ * the tags and attributes again, and marks a lesson by rebuilding the whole lesson list.
+ * Run with {@code -Pjmh.profilers=gc} to compare the bytes allocated per update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonUpdateBenchmark {
+
+    @Param({"10", "100"})
+    private int historySize;
+
+    private Person person;
+    private Lesson markedLesson;
+    private Grade newGrade;
+    private Set<Attribute> updatedAttributes;
+    private Remark newRemark;
+
+    @Setup
+    public void setUp() {
+        Set<Tag> tags = new HashSet<>();
+        Set<Attribute> attributes = new HashSet<>();
+        ArrayList<Lesson> lessons = new ArrayList<>(historySize);
+        GradeList grades = new GradeList();
+        LocalDate firstLesson = LocalDate.of(2020, 1, 6);
+        for (int i = 0; i < historySize; i++) {
+            tags.add(new Tag("tag" + i));
+            attributes.add(new Attribute("key" + i, "value" + i));
+            lessons.add(new Lesson(LocalTime.of(14, 0), LocalTime.of(16, 0), firstLesson.plusWeeks(i), "Math"));
+            grades = grades.addGrade(new Grade("MATH", "WA" + i, "80"));
+        }
+        person = new Person(new Name("Student"), new Phone("91234567"), new Email("student@example.com"),
+                new Address("Blk 1 Example Street"), new Remark(""), tags, attributes, new LessonList(lessons),
+                grades);
+
+        Lesson middleLesson = lessons.get(historySize / 2);
+        markedLesson = new Lesson(middleLesson.getStart(), middleLesson.getEnd(), middleLesson.getDate(),
+                middleLesson.getEndDate(), middleLesson.getSub(), true);
+        newGrade = new Grade("SCIENCE", "WA1", "90");
+        updatedAttributes = new HashSet<>(attributes);
+        updatedAttributes.add(new Attribute("key", "new"));
+        newRemark = new Remark("Needs help with algebra.");
+    }
+
+    @Benchmark
+    public Person legacyMark() {
+        ArrayList<Lesson> newLessons = new ArrayList<>(person.getLessonList().getLessons());
+        newLessons.set(historySize / 2, markedLesson);
+        return rebuild(new LessonList(newLessons), person.getGradeList(), person.getAttributes(),
+                person.getRemark());
+    }
+
+    @Benchmark
+    public Person mark() {
+        return person.withLessonList(person.getLessonList().set(historySize / 2, markedLesson));
+    }
+
+    @Benchmark
+    public Person legacyGrade() {
+        return rebuild(person.getLessonList(), person.getGradeList().addGrade(newGrade), person.getAttributes(),
+                person.getRemark());
+    }
+
+    @Benchmark
+    public Person grade() {
+        return person.withGradeList(person.getGradeList().addGrade(newGrade));
+    }
+
+    @Benchmark
+    public Person legacyTag() {
+        return rebuild(person.getLessonList(), person.getGradeList(), updatedAttributes, person.getRemark());
+    }
+
+    @Benchmark
+    public Person tag() {
+        return person.withAttributes(updatedAttributes);
+    }
+
+    @Benchmark
+    public Person legacyRemark() {
+        return rebuild(person.getLessonList(), person.getGradeList(), person.getAttributes(), newRemark);
+    }
+
+    @Benchmark
+    public Person remark() {
+        return person.withRemark(newRemark);
+    }
+
+    private Person rebuild(LessonList lessonList, GradeList gradeList, Set<Attribute> attributes, Remark remark) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), remark,
+                person.getTags(), attributes, lessonList, gradeList);
+    }
+}
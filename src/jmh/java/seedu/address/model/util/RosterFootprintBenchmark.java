@@ -0,0 +1,126 @@
+package seedu.address.model.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeList;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap retained by a generated roster in which every student has 3 tags, 4 attributes, 20 lessons and
+ * 8 grades. Every string is built afresh for every student, as if each had been parsed from a data file, so any
+ * sharing between students comes from the model classes themselves.
+ * The retained heap is printed during setup, after a full collection with the serial collector. Run this class on
+ * revisions before and after a change to the model to compare their footprint; it only uses model constructors that
+ * predate {@link StringPool}. The benchmark itself times building the roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseSerialGC", "-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class RosterFootprintBenchmark {
+
+    private static final String[] SUBJECTS = {"Math", "Physics", "Chemistry", "English", "History"};
+    private static final String[] ASSESSMENTS = {"WA1", "WA2", "WA3", "EOY"};
+
+    @Param({"100000"})
+    private int rosterSize;
+
+    @Setup
+    public void setUp() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long usedBefore = usedHeapAfterGc(memory);
+        AddressBook roster = buildRoster();
+        long usedAfter = usedHeapAfterGc(memory);
+
+        System.out.printf("%nRetained heap of %d students: %d MB%n", roster.getPersonList().size(),
+                (usedAfter - usedBefore) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public AddressBook build() {
+        return buildRoster();
+    }
+
+    private AddressBook buildRoster() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < rosterSize; i++) {
+            addressBook.addPerson(createPerson(i));
+        }
+        return addressBook;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Person createPerson(int i) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(fresh("Sec" + (i % 5 + 1))));
+        tags.add(new Tag(fresh(i % 2 == 0 ? "Express" : "Normal")));
+        tags.add(new Tag(fresh("Class" + (i % 12 + 1))));
+
+        Set<Attribute> attributes = new HashSet<>();
+        attributes.add(new Attribute(fresh("subject"), fresh(SUBJECTS[i % SUBJECTS.length])));
+        attributes.add(new Attribute(fresh("level"), fresh("sec" + (i % 5 + 1))));
+        attributes.add(new Attribute(fresh("stream"), fresh(i % 2 == 0 ? "express" : "normal")));
+        attributes.add(new Attribute(fresh("school"), fresh("school" + (i % 40))));
+
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        for (int week = 0; week < 20; week++) {
+            String date = String.format("2025-%02d-%02d", week / 4 + 1, (week % 4) * 7 + i % 7 + 1);
+            lessons.add(new Lesson(fresh("14:00"), fresh("16:00"), date, fresh(SUBJECTS[(i + week) % 2]),
+                    week % 3 != 0));
+        }
+
+        GradeList grades = new GradeList();
+        for (int g = 0; g < 8; g++) {
+            grades = grades.addGrade(new Grade(fresh(SUBJECTS[g % 2]), fresh(ASSESSMENTS[g / 2]),
+                    String.valueOf(50 + (i * 7 + g * 11) % 50)));
+        }
+
+        return new Person(new Name("Student " + i), new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                new Remark(""), tags, attributes, new LessonList(lessons), grades);
+    }
+
+    /**
+     * Returns a copy of {@code value} that is not shared with any other string.
+     */
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
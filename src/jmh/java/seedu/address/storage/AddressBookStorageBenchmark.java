@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeList;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares loading the same roster from a compact JSON data file and from a binary data file.
+ * The size of both files is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookStorageBenchmark {
+
+    private static final String[] SUBJECTS = {"Math", "Physics", "Chemistry", "English"};
+
+    @Param({"1000", "10000"})
+    private int rosterSize;
+
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < rosterSize; i++) {
+            addressBook.addPerson(createPerson(i));
+        }
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), false, 0);
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+
+        System.out.printf("%nFile size for %d persons: JSON %d bytes, binary %d bytes%n", rosterSize,
+                Files.size(jsonStorage.getAddressBookFilePath()), Files.size(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    private static Person createPerson(int i) {
+        String subject = SUBJECTS[i % SUBJECTS.length];
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("Sec" + (i % 5 + 1)));
+        Set<Attribute> attributes = new HashSet<>();
+        attributes.add(new Attribute("subject", subject));
+        attributes.add(new Attribute("level", "sec" + (i % 5 + 1)));
+
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        LocalDate firstLesson = LocalDate.of(2025, 1, 6).plusDays(i % 7);
+        for (int week = 0; week < 10; week++) {
+            LocalDate date = firstLesson.plusWeeks(week);
+            lessons.add(new Lesson(LocalTime.of(14, 0), LocalTime.of(16, 0), date, date, subject, week % 3 != 0));
+        }
+
+        GradeList grades = new GradeList();
+        List<String> assessments = List.of("WA1", "WA2", "EOY");
+        for (String assessment : assessments) {
+            grades = grades.addGrade(new Grade(subject, assessment, String.valueOf(50 + (i * 7 + 11) % 50)));
+        }
+
+        return new Person(new Name("Student " + i), new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i + " Example Street"),
+                new Remark(""), tags, attributes, new LessonList(lessons), grades);
+    }
+}
@@ -23,11 +23,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +49,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindAddressBookStorage writeBehindStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ClassRosterPro ]===========================");
@@ -57,7 +62,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +72,30 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file configured in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage addressBookStorage;
+        if (userPrefs.isBinaryDataFileEnabled()) {
+            logger.info("Using the binary data file format");
+            addressBookStorage = new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.isDataFilePrettyPrinted());
+        }
+        if (userPrefs.isJournaledSaveEnabled()) {
+            logger.info("Journaling changes to the data file");
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
+        if (userPrefs.isBackgroundSaveEnabled()) {
+            logger.info("Saving data file in the background");
+            writeBehindStorage = new WriteBehindAddressBookStorage(addressBookStorage);
+            addressBookStorage = writeBehindStorage;
+        }
+        return addressBookStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -182,5 +211,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (writeBehindStorage != null) {
+            try {
+                writeBehindStorage.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
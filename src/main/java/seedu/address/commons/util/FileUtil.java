@@ -1,6 +1,13 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +83,85 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, such that the file holds either its old or its
+     * new content in full even if the application or the machine stops mid-write.
+     * The content goes to a temporary file beside {@code file}, which is forced to disk and then moved over
+     * {@code file} in a single step. Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @throws IOException if the content could not be written. {@code file} is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFileAtomically(file, contentWriter, null);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but lets {@code replacedFileKeeper} keep the
+     * content being replaced. The keeper is given the existing {@code file}, if any, only once the new content is
+     * safely on disk, and must leave {@code file} in place; {@code file} is then replaced in a single step, so that
+     * it exists at every point of the write.
+     *
+     * @param replacedFileKeeper what to do with the replaced file before it is replaced, or null to discard it.
+     * @throws IOException if the content could not be written or the replaced file could not be kept.
+     *     {@code file} is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter,
+            ReplacedFileKeeper replacedFileKeeper) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile())) {
+                OutputStream out = new BufferedOutputStream(fileOut);
+                contentWriter.write(out);
+                out.flush();
+                fileOut.getFD().sync();
+            }
+            if (replacedFileKeeper != null && Files.exists(file)) {
+                replacedFileKeeper.keep(file);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step where the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Produces the content written by {@link #writeToFileAtomically(Path, ContentWriter)}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} must not be closed.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Keeps the file about to be replaced by {@link #writeToFileAtomically(Path, ContentWriter, ReplacedFileKeeper)}.
+     */
+    @FunctionalInterface
+    public interface ReplacedFileKeeper {
+        /**
+         * Keeps the current content of the existing {@code file}, without moving or changing {@code file} itself.
+         */
+        void keep(Path file) throws IOException;
     }
 
 }
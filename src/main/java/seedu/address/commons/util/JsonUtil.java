@@ -3,18 +3,25 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -91,6 +99,94 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the array stored under {@code arrayFieldName} in the top-level object of the JSON file one element at a
+     * time, passing each element to {@code elementHandler} before the next one is parsed.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the file contents nor the full object tree are held in memory.
+     * Other top-level fields are skipped. A missing array field is treated as an empty array.
+     *
+     * @param filePath cannot be null. The file is assumed to exist.
+     * @param arrayFieldName name of the top-level field holding the array.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @param elementHandler receives the elements in file order.
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> void readJsonArrayField(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object at the start of " + filePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for field " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the JSON object to end in " + filePath);
+            }
+        }
+    }
+
+    /**
+     * Writes a JSON object whose only field, {@code arrayFieldName}, holds {@code elements} as an array.
+     * Each element is converted with {@code toJsonAdapted} and written straight to a buffered stream on the file,
+     * so neither the document string nor the full list of adapted elements is built in memory.
+     * Overwrites the file atomically if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether to indent the output like {@link #toJsonString(Object)} does.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static <T> void writeJsonArrayField(Path filePath, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, out ->
+                writeJsonArrayField(out, arrayFieldName, elements, toJsonAdapted, isPrettyPrinted));
+    }
+
+    /**
+     * Similar to {@link #writeJsonArrayField(Path, String, Iterable, Function, boolean)}, but writes to {@code out},
+     * which is left open.
+     */
+    public static <T> void writeJsonArrayField(OutputStream out, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(toJsonAdapted);
+
+        // Flushing after every element would defeat the buffering.
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (T element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +207,29 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation, without indentation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Consumes elements streamed by {@link #readJsonArrayField(Path, String, Class, JsonElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        /**
+         * Handles one deserialized element.
+         *
+         * @throws IllegalValueException if the element violates a data constraint.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,270 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable map sorted by key, kept as a balanced (AVL) binary search tree.
+ * {@code put} and {@code remove} copy only the O(log n) nodes on the path to the key and share every other node with
+ * the map they were called on, so updating one entry does not copy the whole map.
+ * Keys and values must not be null.
+ */
+public final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    /** The root of the tree, or null if the map is empty. */
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code map}.
+     */
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> of(Map<? extends K, ? extends V> map) {
+        requireNonNull(map);
+        PersistentTreeMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if a value is mapped to {@code key}.
+     */
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any value already mapped to it.
+     * Does not modify this map.
+     */
+    public PersistentTreeMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<K, V> newRoot = put(root, key, value);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Returns a map without the value mapped to {@code key}.
+     * Does not modify this map.
+     */
+    public PersistentTreeMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns true if the map has no entries.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the values of the map in the order of their keys.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        addValues(root, values);
+        return values;
+    }
+
+    /**
+     * Returns a mutable copy of the map that iterates in the order of its keys.
+     */
+    public Map<K, V> toMap() {
+        Map<K, V> map = new LinkedHashMap<>();
+        addEntries(root, map);
+        return map;
+    }
+
+    private static <V> void addValues(Node<?, V> node, List<V> values) {
+        if (node == null) {
+            return;
+        }
+        addValues(node.left, values);
+        values.add(node.value);
+        addValues(node.right, values);
+    }
+
+    private static <K, V> void addEntries(Node<K, V> node, Map<K, V> map) {
+        if (node == null) {
+            return;
+        }
+        addEntries(node.left, map);
+        map.put(node.key, node.value);
+        addEntries(node.right, map);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> newLeft = put(node.left, key, value);
+            return newLeft == node.left ? node : balance(node.key, node.value, newLeft, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> newRight = put(node.right, key, value);
+            return newRight == node.right ? node : balance(node.key, node.value, node.left, newRight);
+        } else if (value.equals(node.value)) {
+            return node;
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> newLeft = remove(node.left, key);
+            return newLeft == node.left ? node : balance(node.key, node.value, newLeft, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> newRight = remove(node.right, key);
+            return newRight == node.right ? node : balance(node.key, node.value, node.left, newRight);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node with the given entry and children, rotated so that the heights of its children differ by at
+     * most one. The children must already be balanced and differ in height by at most two.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentTreeMap)) {
+            return false;
+        }
+
+        PersistentTreeMap<?, ?> otherMap = (PersistentTreeMap<?, ?>) other;
+        return size() == otherMap.size() && toMap().equals(otherMap.toMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return toMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * A node of the tree. Nodes are never modified once created, so they can be shared between maps.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
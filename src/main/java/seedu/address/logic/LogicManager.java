@@ -47,10 +47,16 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         Command command = addressBookParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model, storage);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (model.hasUnsavedChanges()) {
+                storage.saveAddressBook(model.getAddressBook());
+                model.markAddressBookSaved();
+            } else {
+                // A save queued by an earlier command may have failed since.
+                storage.checkForSaveFailure();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
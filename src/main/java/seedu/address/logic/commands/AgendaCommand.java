@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.ScheduledLesson;
+
+/**
+ * Lists the lessons of every student taking place in a range of dates.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    /** The number of days after the start date that are shown when no end date is given. */
+    public static final int DEFAULT_EXTRA_DAYS = 6;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the lessons of every student from the start date to the end date, inclusive. "
+            + "Without an end date, the week from the start date is listed.\n"
+            + "Parameters: date/ START DATE [date2/ END DATE]\n"
+            + "Example: " + COMMAND_WORD + " date/ 2025-09-15 date2/ 2025-09-21";
+
+    public static final String MESSAGE_SUCCESS = "%1$d lesson(s) from %2$s to %3$s:";
+    public static final String MESSAGE_NO_LESSONS = "No lessons from %1$s to %2$s.";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an AgendaCommand to list the lessons from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public AgendaCommand(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduledLesson> lessons = model.findLessonsBetween(startDate, endDate);
+        if (lessons.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_LESSONS, startDate, endDate));
+        }
+
+        StringBuilder agenda = new StringBuilder(String.format(MESSAGE_SUCCESS, lessons.size(), startDate, endDate));
+        for (ScheduledLesson scheduledLesson : lessons) {
+            agenda.append('\n')
+                    .append(scheduledLesson.getLesson().getLessonDetails())
+                    .append(" with ")
+                    .append(scheduledLesson.getPerson().getName());
+        }
+        return new CommandResult(agenda.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return startDate.equals(otherAgendaCommand.startDate)
+                && endDate.equals(otherAgendaCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
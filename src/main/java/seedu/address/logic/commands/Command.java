@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.Storage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command and returns the result message, reading or writing any files it works with through
+     * {@code storage}. Most commands only change the model, which is saved after they run, so by default this is
+     * the same as {@link #execute(Model)}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param storage {@code Storage} through which the command should access files.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -112,15 +112,7 @@ public class DeleteAttributeCommand extends Command {
             return personToEdit;
         }
 
-        Person editedPerson = new Person(personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(),
-                personToEdit.getRemark(),
-                new HashSet<>(personToEdit.getTags()),
-                filteredAttributes,
-                personToEdit.getLessonList(),
-                personToEdit.getGradeList());
+        Person editedPerson = personToEdit.withAttributes(filteredAttributes);
         editedPerson.setExpanded(personToEdit.isExpanded());
         return editedPerson;
     }
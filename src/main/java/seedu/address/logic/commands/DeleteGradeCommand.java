@@ -50,16 +50,7 @@ public class DeleteGradeCommand extends Command {
             throw new CommandException(String.format(MESSAGE_GRADE_NOT_FOUND, subject + "/" + assessment));
         }
 
-        Person editedPerson = new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(),
-                personToEdit.getRemark(),
-                personToEdit.getTags(),
-                personToEdit.getAttributes(),
-                personToEdit.getLessonList(),
-                personToEdit.getGradeList().removeGrade(subject, assessment));
+        Person editedPerson = personToEdit.withGradeList(personToEdit.getGradeList().removeGrade(subject, assessment));
 
         model.setPerson(personToEdit, editedPerson);
         return new CommandResult(String.format(MESSAGE_SUCCESS, editedPerson.getName(), subject + "/" + assessment));
@@ -55,7 +55,6 @@ public class GradeCommand extends Command {
         Person editedPerson = createGradedPerson(personToEdit, gradesToAdd);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_ADD_GRADE_SUCCESS,
                 editedPerson.getName(),
@@ -76,17 +75,7 @@ public class GradeCommand extends Command {
             updatedGradeList = updatedGradeList.addGrade(newGrade);
         }
 
-        return new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(),
-                personToEdit.getRemark(),
-                personToEdit.getTags(),
-                personToEdit.getAttributes(),
-                personToEdit.getLessonList(),
-                updatedGradeList
-        );
+        return personToEdit.withGradeList(updatedGradeList);
     }
 
     @Override
@@ -27,6 +27,9 @@ public class HelpCommand extends Command {
             " - edit <INDEX> [n/NAME] [p/PHONE] [e/EMAIL] [a/ADDRESS] [t/TAG] [attr/KEY=VALUE[,VALUE2...]]...",
             " - delete <INDEX>",
             " - search <KEYWORD>",
+            " - query <CONDITION>... [| <CONDITION>...]... (Lists students matching every condition of any group)",
+            "   Conditions: kw/<KEYWORDS>  attr/<KEY>=<VALUE>[,<VALUE2>]...  t/<TAG>  date/<YYYY-MM-DD>",
+            "               sub/<SUBJECT>/<ASSESSMENT><COMPARISON><SCORE>, where <COMPARISON> is >=, <=, >, < or =",
             "",
             "ATTRIBUTE COMMANDS:",
             " - addattr <INDEX> attr/<KEY>=<VALUE>[,<VALUE2>]... [attr/<KEY2>=<VALUE2>]...",
@@ -36,6 +39,7 @@ public class HelpCommand extends Command {
             "LESSON & ATTENDANCE COMMANDS:",
             " - schedule <INDEX> start/<START_TIME> end/<END_TIME> date/<START_DATE> [date2/<END_DATE>] sub/<SUBJECT>",
             " - unschedule <INDEX> lesson/<LESSON_INDEX>",
+            " - agenda date/<START_DATE> [date2/<END_DATE>]",
             " - mark <INDEX> lesson/<LESSON_INDEX>",
             " - unmark <INDEX> lesson/<LESSON_INDEX>",
             "",
@@ -48,6 +52,10 @@ public class HelpCommand extends Command {
             " - open <INDEX>",
             " - close <INDEX>",
             "",
+            "DATA FILE COMMANDS:",
+            " - import <FILE_PATH> (Replaces all students with those in a JSON or binary data file)",
+            " - export <FILE_PATH> (Saves all students as JSON if the file name ends in .json, in binary otherwise)",
+            "",
             "------------------------------------------",
             "For full usage details, see the User Guide:",
             "https://ay2526s1-cs2103t-w13-4.github.io/tp/UserGuide.html"
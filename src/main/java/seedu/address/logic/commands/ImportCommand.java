@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Replaces all persons in the address book with those in a file written by {@link ExportCommand}.
+ */
+public class ImportCommand extends StorageCommand {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces all students with those in a file, which may be a JSON or binary data file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d student(s) from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s as it is not a valid data file.";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the address book in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.importAddressBook(filePath);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath), dle);
+        }
+        if (!addressBook.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        model.setAddressBook(addressBook.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.get().getPersonList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -76,14 +75,9 @@ public class MarkCommand extends Command {
         Lesson markedLesson = new Lesson(lessonToMark.getStart(), lessonToMark.getEnd(),
                 lessonToMark.getDate(), lessonToMark.getEndDate(), lessonToMark.getSub(), true);
 
-        ArrayList<Lesson> newLessons = new ArrayList<>(lessonList.getLessons());
-        newLessons.set(lessonIndex.getZeroBased(), markedLesson);
-        LessonList updatedLessonList = new LessonList(newLessons);
+        LessonList updatedLessonList = lessonList.set(lessonIndex.getZeroBased(), markedLesson);
 
-        Person markedPerson = new Person(
-                personToMark.getName(), personToMark.getPhone(), personToMark.getEmail(),
-                personToMark.getAddress(), personToMark.getRemark(), personToMark.getTags(),
-                personToMark.getAttributes(), updatedLessonList, personToMark.getGradeList());
+        Person markedPerson = personToMark.withLessonList(updatedLessonList);
 
         model.setPerson(personToMark, markedPerson);
         logger.info("Attendance marked for lesson " + lessonIndex.getOneBased() + " of person: "
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+
+/**
+ * Lists all persons in address book matching a query that combines keywords, attributes, tags, grades and lesson
+ * dates.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String GROUP_SEPARATOR = "|";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching every condition of at "
+            + "least one group of conditions and displays them as a list with index numbers. "
+            + "Groups are separated by " + GROUP_SEPARATOR + ".\n"
+            + "Conditions: [kw/KEYWORD [MORE_KEYWORDS]...] [attr/KEY=VALUE[,VALUE2]...] [t/TAG] "
+            + "[sub/SUBJECT/ASSESSMENT{>=,<=,>,<,=}SCORE] [date/YYYY-MM-DD]...\n"
+            + "Example: " + COMMAND_WORD + " t/Sec3 attr/subject=math sub/Math/WA1<50 "
+            + GROUP_SEPARATOR + " kw/alice date/2025-09-20";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d person(s) matching the query";
+
+    private final Query query;
+
+    public QueryCommand(Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByQuery(query);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 
@@ -59,13 +58,9 @@ public class RemarkCommand extends Command {
 
         Remark updatedRemark = getRemark(personToEdit);
 
-        Person editedPerson = new Person(
-                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), updatedRemark, personToEdit.getTags(), personToEdit.getAttributes(),
-                personToEdit.getLessonList(), personToEdit.getGradeList());
+        Person editedPerson = personToEdit.withRemark(updatedRemark);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
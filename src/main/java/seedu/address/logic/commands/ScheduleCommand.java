@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -13,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ScheduledLesson;
 
 /**
  * Changes the lesson of an existing person in the address book.
@@ -36,6 +36,8 @@ public class ScheduleCommand extends Command {
     public static final String MESSAGE_ADD_LESSON_SUCCESS = "Scheduled Lesson to Person: %1$s";
     public static final String MESSAGE_OVERLAPPING_LESSON =
             "The student already has a lesson that overlaps with the provided timeslot!";
+    public static final String MESSAGE_CLASHING_LESSON =
+            "The provided timeslot clashes with the lesson of %1$s: %2$s";
 
     private static final Logger logger = LogsCenter.getLogger(ScheduleCommand.class);
 
@@ -79,19 +81,24 @@ public class ScheduleCommand extends Command {
             throw new CommandException(MESSAGE_OVERLAPPING_LESSON);
         }
 
+        // The tutor cannot teach two classes at once, but may teach several students in the same class.
+        for (ScheduledLesson clashingLesson : model.findLessonsOverlapping(lesson)) {
+            if (!clashingLesson.getPerson().isSamePerson(personToEdit)
+                    && !clashingLesson.getLesson().isSameClassAs(lesson)) {
+                logger.fine("ScheduleCommand detected a clash with the lesson of another student; aborting.");
+                throw new CommandException(String.format(MESSAGE_CLASHING_LESSON,
+                        clashingLesson.getPerson().getName(), clashingLesson.getLesson().getLessonDetails()));
+            }
+        }
+
         int originalLessonCount = personToEdit.getLessonList().size();
 
-        Person editedPerson = new Person(
-                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getRemark(),
-                personToEdit.getTags(), personToEdit.getAttributes(),
-                personToEdit.getLessonList().add(lesson), personToEdit.getGradeList());
+        Person editedPerson = personToEdit.withLessonList(personToEdit.getLessonList().add(lesson));
 
         assert editedPerson.getLessonList().size() == originalLessonCount + 1
                 : "Lesson list should grow by exactly one lesson";
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         logger.fine(() -> String.format("ScheduleCommand succeeded for person %s", index.getOneBased()));
         return new CommandResult(generateSuccessMessage(editedPerson));
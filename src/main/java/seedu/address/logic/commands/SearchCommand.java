@@ -31,7 +31,7 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByKeywords(predicate);
 
         int size = model.getFilteredPersonList().size();
         String message = (size == 0)
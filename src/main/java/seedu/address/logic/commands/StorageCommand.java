@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Represents a command that reads or writes files chosen by the user, and so needs the {@code Storage} as well as
+ * the {@code Model} to be executed.
+ */
+public abstract class StorageCommand extends Command {
+
+    public static final String MESSAGE_STORAGE_REQUIRED = "This command cannot be executed without storage.";
+
+    /**
+     * Always fails, as the command cannot be executed without storage.
+     *
+     * @throws CommandException always.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Override
+    public abstract CommandResult execute(Model model, Storage storage) throws CommandException;
+
+}
@@ -61,7 +61,6 @@ public class TagCommand extends Command {
         Person editedPerson = createTaggedPerson(personToEdit, attributesToAdd);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_ADD_ATTRIBUTE_SUCCESS, editedPerson.getName()));
     }
 
@@ -77,17 +76,7 @@ public class TagCommand extends Command {
             updatedAttributes.add(newAttr);
         }
 
-        return new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(),
-                personToEdit.getRemark(),
-                personToEdit.getTags(),
-                updatedAttributes,
-                personToEdit.getLessonList(),
-                personToEdit.getGradeList()
-        );
+        return personToEdit.withAttributes(updatedAttributes);
     }
 
     @Override
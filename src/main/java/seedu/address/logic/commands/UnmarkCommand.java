@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -69,14 +68,9 @@ public class UnmarkCommand extends Command {
         Lesson unmarkedLesson = new Lesson(lessonToUnmark.getStart(), lessonToUnmark.getEnd(),
                 lessonToUnmark.getDate(), lessonToUnmark.getEndDate(), lessonToUnmark.getSub(), false);
 
-        ArrayList<Lesson> newLessons = new ArrayList<>(lessonList.getLessons());
-        newLessons.set(lessonIndex.getZeroBased(), unmarkedLesson);
-        LessonList updatedLessonList = new LessonList(newLessons);
+        LessonList updatedLessonList = lessonList.set(lessonIndex.getZeroBased(), unmarkedLesson);
 
-        Person unmarkedPerson = new Person(
-                personToUnmark.getName(), personToUnmark.getPhone(), personToUnmark.getEmail(),
-                personToUnmark.getAddress(), personToUnmark.getRemark(), personToUnmark.getTags(),
-                personToUnmark.getAttributes(), updatedLessonList, personToUnmark.getGradeList());
+        Person unmarkedPerson = personToUnmark.withLessonList(updatedLessonList);
 
         model.setPerson(personToUnmark, unmarkedPerson);
 
@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -79,13 +78,9 @@ public class UnscheduleCommand extends Command {
         assert updatedLessonList.size() == lessonList.size() - 1
                 : "Lesson list should decrease by exactly one lesson";
 
-        Person editedPerson = new Person(
-                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getRemark(), personToEdit.getTags(),
-                personToEdit.getAttributes(), updatedLessonList, personToEdit.getGradeList());
+        Person editedPerson = personToEdit.withLessonList(updatedLessonList);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         logger.fine(() -> String.format("UnscheduleCommand removed lesson %s from person %s",
                 lessonIndex.getOneBased(), personIndex.getOneBased()));
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code AgendaCommand} object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    public static final String MESSAGE_END_BEFORE_START = "End date must not be before start date.";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final Pattern DATE_PATTERN = Pattern.compile("^\\d{4}-\\d{2}-\\d{2}$");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code AgendaCommand}
+     * and returns an {@code AgendaCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_DATE_END);
+
+        if (!argMultimap.getPreamble().isEmpty() || !argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_DATE_END);
+
+        LocalDate startDate = parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate endDate = startDate.plusDays(AgendaCommand.DEFAULT_EXTRA_DAYS);
+        if (argMultimap.getValue(PREFIX_DATE_END).isPresent()) {
+            endDate = parseDate(argMultimap.getValue(PREFIX_DATE_END).get());
+        }
+
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        return new AgendaCommand(startDate, endDate);
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        String trimmedDate = date.trim();
+        if (!DATE_PATTERN.matcher(trimmedDate).matches()) {
+            throw new ParseException(ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        }
+        try {
+            return LocalDate.parse(trimmedDate, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(ScheduleCommandParser.MESSAGE_INVALID_DATE_VALUE);
+        }
+    }
+}
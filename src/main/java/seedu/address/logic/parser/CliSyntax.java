@@ -19,4 +19,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE_END = new Prefix("date2/");
     public static final Prefix PREFIX_SUB = new Prefix("sub/");
     public static final Prefix PREFIX_LESSON = new Prefix("lesson/");
+    public static final Prefix PREFIX_KEYWORD = new Prefix("kw/");
 }
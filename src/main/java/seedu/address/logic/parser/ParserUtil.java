@@ -3,11 +3,14 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -26,6 +29,8 @@ public class ParserUtil {
             "The person index provided is invalid";
     public static final String MESSAGE_INVALID_LESSON_INDEX =
             "The lesson index provided is invalid";
+    public static final String MESSAGE_INVALID_FILE_PATH =
+            "The file path provided is invalid";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -54,6 +59,21 @@ public class ParserUtil {
         return trimmedValue;
     }
 
+    /**
+     * Parses a non-empty {@code filePath} into a {@code Path}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the value is empty, or if the file path is invalid.
+     */
+    public static Path parseFilePath(String filePath, String usageMessage) throws ParseException {
+        String trimmedFilePath = filePath == null ? "" : filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usageMessage));
+        }
+        if (!FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
 
     /**
      * Parses a {@code String name} into a {@code Name}.
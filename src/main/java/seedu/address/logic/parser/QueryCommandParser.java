@@ -0,0 +1,139 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTRIBUTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.query.AttributeCondition;
+import seedu.address.model.query.GradeCondition;
+import seedu.address.model.query.GradeCondition.Comparison;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.LessonDateCondition;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryCondition;
+import seedu.address.model.query.TagCondition;
+
+/**
+ * Parses input arguments and creates a new {@code QueryCommand} object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_INVALID_GRADE_CONDITION =
+            "Incorrect grade condition. Use sub/SUBJECT/ASSESSMENT followed by >=, <=, >, < or = and a number "
+            + "(e.g. sub/Math/WA1>=70).";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    // Two-character comparisons are listed first so that ">=" is not read as ">" followed by "=70".
+    private static final Pattern GRADE_CONDITION_FORMAT =
+            Pattern.compile("(?<subject>[^/]+)/(?<assessment>[^/<>=]+)(?<comparison>>=|<=|>|<|=)(?<score>.+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<List<QueryCondition>> groups = new ArrayList<>();
+        for (String groupArgs : args.split(Pattern.quote(QueryCommand.GROUP_SEPARATOR), -1)) {
+            groups.add(parseGroup(groupArgs));
+        }
+        return new QueryCommand(new Query(groups));
+    }
+
+    private static List<QueryCondition> parseGroup(String groupArgs) throws ParseException {
+        // The tokenizer expects the arguments to start with a space, as they do after the command word.
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + groupArgs.trim(),
+                PREFIX_KEYWORD, PREFIX_ATTRIBUTE, PREFIX_TAG, PREFIX_SUB, PREFIX_DATE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        List<QueryCondition> conditions = new ArrayList<>();
+        for (String keywords : argMultimap.getAllValues(PREFIX_KEYWORD)) {
+            String trimmedKeywords = keywords.trim();
+            if (trimmedKeywords.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+            }
+            conditions.add(new KeywordCondition(Arrays.asList(trimmedKeywords.split("\\s+"))));
+        }
+        for (String attribute : argMultimap.getAllValues(PREFIX_ATTRIBUTE)) {
+            Attribute parsedAttribute = ParserUtil.parseAttribute(attribute);
+            conditions.add(new AttributeCondition(parsedAttribute.getKey(), parsedAttribute.getValues()));
+        }
+        for (String tag : argMultimap.getAllValues(PREFIX_TAG)) {
+            conditions.add(new TagCondition(ParserUtil.parseTag(tag)));
+        }
+        for (String grade : argMultimap.getAllValues(PREFIX_SUB)) {
+            conditions.add(parseGradeCondition(grade));
+        }
+        for (String date : argMultimap.getAllValues(PREFIX_DATE)) {
+            conditions.add(new LessonDateCondition(parseDate(date)));
+        }
+
+        if (conditions.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return conditions;
+    }
+
+    private static GradeCondition parseGradeCondition(String grade) throws ParseException {
+        Matcher matcher = GRADE_CONDITION_FORMAT.matcher(grade.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_GRADE_CONDITION);
+        }
+
+        String subject = matcher.group("subject").trim();
+        String assessment = matcher.group("assessment").trim();
+        if (subject.isEmpty() || assessment.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_GRADE_CONDITION);
+        }
+        double threshold;
+        try {
+            threshold = Double.parseDouble(matcher.group("score").trim());
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_GRADE_CONDITION);
+        }
+        if (!Double.isFinite(threshold)) {
+            throw new ParseException(MESSAGE_INVALID_GRADE_CONDITION);
+        }
+        return new GradeCondition(subject, assessment, parseComparison(matcher.group("comparison")), threshold);
+    }
+
+    private static Comparison parseComparison(String symbol) {
+        for (Comparison comparison : Comparison.values()) {
+            if (comparison.getSymbol().equals(symbol)) {
+                return comparison;
+            }
+        }
+        throw new AssertionError("The grade condition format only accepts known comparisons");
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
+}
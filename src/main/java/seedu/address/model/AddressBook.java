@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ScheduledLesson;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +23,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private boolean hasUnsavedChanges;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +54,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -67,12 +76,56 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the identity keys of the persons that have an attribute matching every filter in
+     * {@code attributeFilters}, looked up in the attribute index instead of by testing every person.
+     *
+     * @see seedu.address.model.person.AttributeIndex#findMatches(Map)
+     */
+    public Set<String> findIdentityKeysWithAttributes(Map<String, Set<String>> attributeFilters) {
+        requireNonNull(attributeFilters);
+        return persons.findIdentityKeysWithAttributes(attributeFilters);
+    }
+
+    /**
+     * Returns the identity keys of the persons whose name, phone or email may contain any of {@code keywords},
+     * looked up in the substring index, or an empty {@code Optional} if the keywords are too short to look up.
+     *
+     * @see seedu.address.model.person.SubstringIndex#findCandidates(List)
+     */
+    public Optional<Set<String>> findCandidateIdentityKeysWithKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findCandidateIdentityKeysWithKeywords(keywords);
+    }
+
+    /**
+     * Returns the lessons of every person overlapping {@code lesson} in time, ordered by start, looked up in the
+     * timetable instead of by going through every person.
+     *
+     * @see seedu.address.model.person.Timetable#findOverlapping(Lesson)
+     */
+    public List<ScheduledLesson> findLessonsOverlapping(Lesson lesson) {
+        requireNonNull(lesson);
+        return persons.findLessonsOverlapping(lesson);
+    }
+
+    /**
+     * Returns the lessons of every person taking place from {@code startDate} to {@code endDate}, ordered by start.
+     *
+     * @see seedu.address.model.person.Timetable#findBetween(LocalDate, LocalDate)
+     */
+    public List<ScheduledLesson> findLessonsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return persons.findLessonsBetween(startDate, endDate);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -84,6 +137,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -92,6 +146,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        hasUnsavedChanges = true;
+    }
+
+    //// persistence tracking
+
+    /**
+     * Returns true if the persons in this address book have changed since the last call to {@link #markSaved()},
+     * or since creation if it has never been called.
+     */
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Records that the current contents of this address book have been persisted.
+     */
+    public void markSaved() {
+        hasUnsavedChanges = false;
     }
 
     //// util methods
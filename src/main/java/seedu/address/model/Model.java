@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.ScheduledLesson;
+import seedu.address.model.query.Query;
 
 /**
  * The API of the Model component.
@@ -52,6 +59,16 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if the address book has changed since it was last marked as saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current address book data as saved to storage.
+     */
+    void markAddressBookSaved();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -66,6 +83,7 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filter of the filtered person list is kept, and only {@code person} is tested against it.
      */
     void addPerson(Person person);
 
@@ -73,9 +91,22 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The filter of the filtered person list is kept, and only {@code editedPerson} is tested against it.
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the lessons of every person overlapping {@code lesson} in time, ordered by start.
+     * @throws NullPointerException if {@code lesson} is null.
+     */
+    List<ScheduledLesson> findLessonsOverlapping(Lesson lesson);
+
+    /**
+     * Returns the lessons of every person taking place from {@code startDate} to {@code endDate}, ordered by start.
+     * @throws NullPointerException if {@code startDate} or {@code endDate} is null.
+     */
+    List<ScheduledLesson> findLessonsBetween(LocalDate startDate, LocalDate endDate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +115,26 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons matching {@code predicate}.
+     * Matching persons are looked up in the attribute index of the address book instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByAttributes(AttributeContainsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons matching {@code predicate}.
+     * Only the persons found in the substring index of the address book are tested, unless a keyword is too short
+     * to look up.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByKeywords(PersonContainsKeywordPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons matching {@code query}.
+     * The query is planned against the indexes of the address book and evaluated over all persons in one pass.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByQuery(Query query);
 }
@@ -4,14 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.ScheduledLesson;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +34,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final QueryResultCache queryResultCache = new QueryResultCache();
+
+    // Incremented on every change to the address book, so that results cached for older data are never reused
+    private long version;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -80,6 +96,19 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        version++;
+
+        // The candidates of an indexed filter were looked up in the old data.
+        if (filteredPersons.getPredicate() instanceof IndexedPredicate) {
+            Predicate<Person> indexedPredicate = ((IndexedPredicate) filteredPersons.getPredicate()).predicate;
+            if (indexedPredicate instanceof AttributeContainsPredicate) {
+                updateFilteredPersonListByAttributes((AttributeContainsPredicate) indexedPredicate);
+            } else if (indexedPredicate instanceof Query) {
+                updateFilteredPersonListByQuery((Query) indexedPredicate);
+            } else {
+                updateFilteredPersonListByKeywords((PersonContainsKeywordPredicate) indexedPredicate);
+            }
+        }
     }
 
     @Override
@@ -87,6 +116,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public boolean hasUnsavedChanges() {
+        return addressBook.hasUnsavedChanges();
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        addressBook.markSaved();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -96,12 +135,32 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        version++;
+
+        // A person later added with the same identity must not be shown just because the target was.
+        IndexedPredicate indexedPredicate = getIndexedPredicate();
+        if (indexedPredicate != null) {
+            indexedPredicate.remove(target);
+        }
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        requireNonNull(person);
+
+        // Update the candidates of an indexed filter before the filtered list tests the new person, and undo the
+        // update if the address book rejects the person.
+        IndexedPredicate indexedPredicate = getIndexedPredicate();
+        boolean isNewCandidate = indexedPredicate != null && indexedPredicate.add(person);
+        try {
+            addressBook.addPerson(person);
+        } catch (RuntimeException e) {
+            if (isNewCandidate) {
+                indexedPredicate.remove(person);
+            }
+            throw e;
+        }
+        version++;
     }
 
     @Override
@@ -111,7 +170,41 @@ public class ModelManager implements Model {
         // Preserve the UI expanded state across updates
         editedPerson.setExpanded(target.isExpanded());
 
-        addressBook.setPerson(target, editedPerson);
+        // Update the candidates of an indexed filter before the filtered list re-tests the edited person, and undo
+        // the update if the address book rejects the edit.
+        IndexedPredicate indexedPredicate = getIndexedPredicate();
+        boolean wasCandidate = indexedPredicate != null && indexedPredicate.remove(target);
+        boolean isNewCandidate = indexedPredicate != null && indexedPredicate.add(editedPerson);
+        try {
+            addressBook.setPerson(target, editedPerson);
+        } catch (RuntimeException e) {
+            if (isNewCandidate) {
+                indexedPredicate.remove(editedPerson);
+            }
+            if (wasCandidate) {
+                indexedPredicate.add(target);
+            }
+            throw e;
+        }
+        version++;
+    }
+
+    /**
+     * Returns the indexed filter applied to the filtered list, or null if the filter is not indexed.
+     */
+    private IndexedPredicate getIndexedPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate instanceof IndexedPredicate ? (IndexedPredicate) predicate : null;
+    }
+
+    @Override
+    public List<ScheduledLesson> findLessonsOverlapping(Lesson lesson) {
+        return addressBook.findLessonsOverlapping(lesson);
+    }
+
+    @Override
+    public List<ScheduledLesson> findLessonsBetween(LocalDate startDate, LocalDate endDate) {
+        return addressBook.findLessonsBetween(startDate, endDate);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -131,6 +224,80 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByAttributes(AttributeContainsPredicate predicate) {
+        requireNonNull(predicate);
+        if (predicate.getAttributeFilters().isEmpty()) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        Set<String> matchingIdentityKeys = findMatchingIdentityKeys(predicate, () ->
+                addressBook.findIdentityKeysWithAttributes(predicate.getAttributeFilters()));
+        filteredPersons.setPredicate(new IndexedPredicate(predicate, matchingIdentityKeys, true));
+    }
+
+    @Override
+    public void updateFilteredPersonListByKeywords(PersonContainsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> keywords = predicate.getKeywords();
+        if (keywords == null || keywords.isEmpty()) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        Set<String> matchingIdentityKeys = findMatchingIdentityKeys(predicate, () ->
+                evaluate(addressBook.findCandidateIdentityKeysWithKeywords(keywords)
+                        .<Predicate<Person>>map(candidateIdentityKeys ->
+                                new IndexedPredicate(predicate, candidateIdentityKeys, false))
+                        .orElse(predicate)));
+        filteredPersons.setPredicate(new IndexedPredicate(predicate, matchingIdentityKeys, true));
+    }
+
+    @Override
+    public void updateFilteredPersonListByQuery(Query query) {
+        requireNonNull(query);
+        Set<String> matchingIdentityKeys = findMatchingIdentityKeys(query, () ->
+                evaluate(QueryPlanner.plan(query, addressBook)));
+        // The plan relies on index look-ups that go stale, so edits are checked against the query itself.
+        filteredPersons.setPredicate(new IndexedPredicate(query, matchingIdentityKeys, true));
+    }
+
+    /**
+     * Returns the identity keys of the persons matching {@code predicate}, as computed by {@code evaluation}.
+     * The result is reused while the address book is unchanged, so repeating a search costs a single lookup.
+     */
+    private Set<String> findMatchingIdentityKeys(Predicate<Person> predicate, Supplier<Set<String>> evaluation) {
+        Optional<Set<String>> cachedIdentityKeys = queryResultCache.get(predicate, version);
+        if (cachedIdentityKeys.isPresent()) {
+            logger.fine(() -> "Reusing the cached result of " + predicate);
+            return cachedIdentityKeys.get();
+        }
+
+        Set<String> matchingIdentityKeys = evaluation.get();
+        queryResultCache.put(predicate, version, matchingIdentityKeys);
+        return matchingIdentityKeys;
+    }
+
+    /**
+     * Returns the identity keys of the persons matching {@code predicate}.
+     * On a large address book, {@code predicate} is evaluated over all persons in parallel.
+     */
+    private Set<String> evaluate(Predicate<Person> predicate) {
+        List<Person> persons = addressBook.getPersonList();
+        if (ParallelPersonFilter.isWorthParallelizing(persons.size())) {
+            return ParallelPersonFilter.findMatchingIdentityKeys(persons, predicate);
+        }
+
+        Set<String> matchingIdentityKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchingIdentityKeys.add(person.getIdentityKey());
+            }
+        }
+        return matchingIdentityKeys;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -148,4 +315,43 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Shows the persons found in an index of the address book for a predicate, so that persons that were not found
+     * are rejected with a single lookup.
+     */
+    private static class IndexedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<String> candidateIdentityKeys;
+        private final boolean isExact;
+
+        /**
+         * Creates an {@code IndexedPredicate} that shows the persons in {@code candidateIdentityKeys} matching
+         * {@code predicate}. If {@code isExact} is true, every candidate is known to match and is not tested.
+         */
+        IndexedPredicate(Predicate<Person> predicate, Set<String> candidateIdentityKeys, boolean isExact) {
+            this.predicate = predicate;
+            this.candidateIdentityKeys = candidateIdentityKeys;
+            this.isExact = isExact;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return candidateIdentityKeys.contains(person.getIdentityKey()) && (isExact || predicate.test(person));
+        }
+
+        /**
+         * Records that {@code person} is being added, and returns true if it became a new candidate.
+         */
+        boolean add(Person person) {
+            return predicate.test(person) && candidateIdentityKeys.add(person.getIdentityKey());
+        }
+
+        /**
+         * Records that {@code person} is being removed, and returns true if it was a candidate.
+         */
+        boolean remove(Person person) {
+            return candidateIdentityKeys.remove(person.getIdentityKey());
+        }
+    }
+
 }
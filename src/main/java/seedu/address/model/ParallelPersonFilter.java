@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Evaluates a predicate over a snapshot of the persons on the common fork-join pool.
+ * The predicate must be safe to call from several threads at once.
+ */
+class ParallelPersonFilter {
+
+    /** The number of persons from which evaluating in parallel pays for splitting the work. */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    /**
+     * Returns true if a predicate over {@code personCount} persons should be evaluated in parallel.
+     */
+    static boolean isWorthParallelizing(int personCount) {
+        return personCount >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Returns the identity keys of the persons in {@code persons} matching {@code predicate}.
+     * {@code persons} is copied first, so it may be modified once this method returns.
+     */
+    static Set<String> findMatchingIdentityKeys(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        List<Person> snapshot = new ArrayList<>(persons);
+        return snapshot.parallelStream()
+                .filter(predicate)
+                .map(Person::getIdentityKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+}
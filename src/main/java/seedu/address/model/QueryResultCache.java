@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A bounded cache of the identity keys of the persons matching a predicate, for a version of the address book.
+ * Once the cache is full, the least recently used result is evicted.
+ * Predicates used as keys must implement {@code equals} and {@code hashCode}.
+ */
+class QueryResultCache {
+
+    /** The number of results kept by default. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<Key, Set<String>> results;
+
+    QueryResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache keeping at most {@code capacity} results.
+     */
+    QueryResultCache(int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Set<String>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the identity keys cached for {@code predicate} at {@code version}, if any.
+     */
+    Optional<Set<String>> get(Predicate<Person> predicate, long version) {
+        requireNonNull(predicate);
+        Set<String> result = results.get(new Key(predicate, version));
+        return result == null ? Optional.empty() : Optional.of(new HashSet<>(result));
+    }
+
+    /**
+     * Caches a copy of {@code matchingIdentityKeys} as the result of {@code predicate} at {@code version}.
+     */
+    void put(Predicate<Person> predicate, long version, Set<String> matchingIdentityKeys) {
+        requireAllNonNull(predicate, matchingIdentityKeys);
+        results.put(new Key(predicate, version), new HashSet<>(matchingIdentityKeys));
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    /**
+     * A predicate together with the version of the address book it was evaluated against.
+     */
+    private static class Key {
+        private final Predicate<Person> predicate;
+        private final long version;
+
+        Key(Predicate<Person> predicate, long version) {
+            this.predicate = predicate;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return version == otherKey.version && predicate.equals(otherKey.predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * predicate.hashCode() + Long.hashCode(version);
+        }
+    }
+
+}
@@ -13,4 +13,24 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book data file should be written with indentation and line breaks.
+     */
+    boolean isDataFilePrettyPrinted();
+
+    /**
+     * Returns true if the address book data file should be written on a background thread.
+     */
+    boolean isBackgroundSaveEnabled();
+
+    /**
+     * Returns true if changes should be appended to a journal beside the data file instead of rewriting it.
+     */
+    boolean isJournaledSaveEnabled();
+
+    /**
+     * Returns true if the data file should be saved in the compact binary format instead of JSON.
+     */
+    boolean isBinaryDataFileEnabled();
+
 }
@@ -15,6 +15,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean dataFilePrettyPrinted = true;
+    private boolean backgroundSaveEnabled = false;
+    private boolean journaledSaveEnabled = false;
+    private boolean binaryDataFileEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFilePrettyPrinted(newUserPrefs.isDataFilePrettyPrinted());
+        setBackgroundSaveEnabled(newUserPrefs.isBackgroundSaveEnabled());
+        setJournaledSaveEnabled(newUserPrefs.isJournaledSaveEnabled());
+        setBinaryDataFileEnabled(newUserPrefs.isBinaryDataFileEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public boolean isBackgroundSaveEnabled() {
+        return backgroundSaveEnabled;
+    }
+
+    public void setBackgroundSaveEnabled(boolean backgroundSaveEnabled) {
+        this.backgroundSaveEnabled = backgroundSaveEnabled;
+    }
+
+    public boolean isJournaledSaveEnabled() {
+        return journaledSaveEnabled;
+    }
+
+    public void setJournaledSaveEnabled(boolean journaledSaveEnabled) {
+        this.journaledSaveEnabled = journaledSaveEnabled;
+    }
+
+    public boolean isBinaryDataFileEnabled() {
+        return binaryDataFileEnabled;
+    }
+
+    public void setBinaryDataFileEnabled(boolean binaryDataFileEnabled) {
+        this.binaryDataFileEnabled = binaryDataFileEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +109,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && dataFilePrettyPrinted == otherUserPrefs.dataFilePrettyPrinted
+                && backgroundSaveEnabled == otherUserPrefs.backgroundSaveEnabled
+                && journaledSaveEnabled == otherUserPrefs.journaledSaveEnabled
+                && binaryDataFileEnabled == otherUserPrefs.binaryDataFileEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFilePrettyPrinted, backgroundSaveEnabled,
+                journaledSaveEnabled, binaryDataFileEnabled);
     }
 
     @Override
@@ -82,6 +127,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nPretty-print data file : " + dataFilePrettyPrinted);
+        sb.append("\nSave in background : " + backgroundSaveEnabled);
+        sb.append("\nJournal changes : " + journaledSaveEnabled);
+        sb.append("\nBinary data file : " + binaryDataFileEnabled);
         return sb.toString();
     }
 
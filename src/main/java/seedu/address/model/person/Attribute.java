@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.model.util.StringPool;
+
 /**
  * Represents a Person's attribute in the address book.
  * Guarantees: immutable; is always valid
@@ -16,17 +19,21 @@ public class Attribute {
     public final String key;
     public final Set<String> values;
 
+    // Computed on the first call to hashCode, as neither the key nor the values ever change.
+    private int hashCode;
+
     /**
      * Constructs a {@code Attribute}.
      */
     public Attribute(String key, Collection<String> values) {
         requireNonNull(key);
         requireNonNull(values);
-        this.key = key.trim().toLowerCase();
-        this.values = new HashSet<>();
+        this.key = StringPool.intern(key.trim().toLowerCase());
+        Set<String> normalizedValues = new HashSet<>();
         for (String value : values) {
-            this.values.add(value.trim().toLowerCase());
+            normalizedValues.add(StringPool.intern(value.trim().toLowerCase()));
         }
+        this.values = Collections.unmodifiableSet(normalizedValues);
     }
 
     /**
@@ -35,9 +42,8 @@ public class Attribute {
     public Attribute(String key, String value) {
         requireNonNull(key);
         requireNonNull(value);
-        this.key = key.trim().toLowerCase();
-        this.values = new HashSet<>();
-        this.values.add(value.trim().toLowerCase());
+        this.key = StringPool.intern(key.trim().toLowerCase());
+        this.values = Collections.singleton(StringPool.intern(value.trim().toLowerCase()));
     }
 
     public String getKey() {
@@ -101,7 +107,10 @@ public class Attribute {
 
     @Override
     public int hashCode() {
-        return Objects.hash(key, values);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(key, values);
+        }
+        return hashCode;
     }
 
 }
@@ -17,6 +17,10 @@ public class AttributeContainsPredicate implements Predicate<Person> {
         this.attributeFilters = attributeFilters;
     }
 
+    public Map<String, Set<String>> getAttributeFilters() {
+        return attributeFilters;
+    }
+
     @Override
     public boolean test(Person person) {
         // If no filters specified, show all persons
@@ -26,15 +30,7 @@ public class AttributeContainsPredicate implements Predicate<Person> {
 
         // Check if person has all the required attributes with matching values
         for (Map.Entry<String, Set<String>> filter : attributeFilters.entrySet()) {
-            String filterKey = filter.getKey();
-            Set<String> filterValues = filter.getValue();
-
-            // Find matching attribute in person
-            boolean hasMatchingAttribute = person.getAttributes().stream()
-                    .anyMatch(attr -> attr.key.equals(filterKey)
-                        && filterValues.stream().anyMatch(filterValue -> attr.containsValue(filterValue)));
-
-            if (!hasMatchingAttribute) {
+            if (!hasMatchingAttribute(person, filter.getKey(), filter.getValue())) {
                 return false;
             }
         }
@@ -42,6 +38,20 @@ public class AttributeContainsPredicate implements Predicate<Person> {
         return true;
     }
 
+    private static boolean hasMatchingAttribute(Person person, String filterKey, Set<String> filterValues) {
+        for (Attribute attribute : person.getAttributes()) {
+            if (!attribute.key.equals(filterKey)) {
+                continue;
+            }
+            for (String filterValue : filterValues) {
+                if (attribute.containsValue(filterValue)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -57,6 +67,11 @@ public class AttributeContainsPredicate implements Predicate<Person> {
         return attributeFilters.equals(otherAttributeContainsPredicate.attributeFilters);
     }
 
+    @Override
+    public int hashCode() {
+        return attributeFilters.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("attributeFilters", attributeFilters).toString();
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each attribute key and value to the identity keys (see {@code Person#getIdentityKey()}) of
+ * the persons holding that value.
+ * Lets attribute filters be answered by intersecting the sets of matching persons instead of testing every person.
+ */
+public class AttributeIndex {
+
+    private final Map<String, Map<String, Set<String>>> postings = new HashMap<>();
+
+    /**
+     * Adds the attributes of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (Attribute attribute : person.getAttributes()) {
+            Map<String, Set<String>> postingsByValue = postings.computeIfAbsent(attribute.getKey(),
+                    unused -> new HashMap<>());
+            for (String value : attribute.getValues()) {
+                postingsByValue.computeIfAbsent(value, unused -> new HashSet<>()).add(identityKey);
+            }
+        }
+    }
+
+    /**
+     * Removes the attributes of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (Attribute attribute : person.getAttributes()) {
+            Map<String, Set<String>> postingsByValue = postings.get(attribute.getKey());
+            if (postingsByValue == null) {
+                continue;
+            }
+            for (String value : attribute.getValues()) {
+                Set<String> posting = postingsByValue.get(value);
+                if (posting != null && posting.remove(identityKey) && posting.isEmpty()) {
+                    postingsByValue.remove(value);
+                }
+            }
+            if (postingsByValue.isEmpty()) {
+                postings.remove(attribute.getKey());
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the identity keys of the persons that, for every key in {@code attributeFilters}, have an attribute
+     * with that key containing at least one of the given values.
+     * Values are compared like {@link Attribute#containsValue(String)} does. {@code attributeFilters} must not be
+     * empty. The cost depends on the sizes of the sets of matching persons, not on the number of persons indexed.
+     */
+    public Set<String> findMatches(Map<String, Set<String>> attributeFilters) {
+        requireNonNull(attributeFilters);
+        List<Set<String>> matchesPerKey = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> filter : attributeFilters.entrySet()) {
+            Set<String> matches = findMatches(filter.getKey(), filter.getValue());
+            if (matches.isEmpty()) {
+                return new HashSet<>();
+            }
+            matchesPerKey.add(matches);
+        }
+
+        // Starting from the smallest set bounds the work of each intersection by the size of the result so far.
+        matchesPerKey.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(matchesPerKey.get(0));
+        for (int i = 1; i < matchesPerKey.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchesPerKey.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the identity keys of the persons with an attribute {@code key} containing any of {@code values}.
+     */
+    private Set<String> findMatches(String key, Set<String> values) {
+        Map<String, Set<String>> postingsByValue = postings.getOrDefault(key, Collections.emptyMap());
+        Set<String> matches = new HashSet<>();
+        for (String value : values) {
+            matches.addAll(postingsByValue.getOrDefault(value.trim().toLowerCase(), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+}
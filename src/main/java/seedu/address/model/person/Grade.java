@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 
+import seedu.address.model.util.StringPool;
+
 /**
  * Represents a Person's grade for a specific subject and assessment in the address book.
  * Guarantees: immutable; is always valid
@@ -13,6 +15,9 @@ public class Grade {
     public final String assessment;
     public final String score;
 
+    // Computed by the first call to hashCode.
+    private int hashCode;
+
     /**
      * Constructs a {@code Grade}.
      *
@@ -24,8 +29,8 @@ public class Grade {
         requireNonNull(subject);
         requireNonNull(assessment);
         requireNonNull(score);
-        this.subject = subject.trim();
-        this.assessment = assessment.trim();
+        this.subject = StringPool.intern(subject.trim());
+        this.assessment = StringPool.intern(assessment.trim());
         this.score = score.trim();
     }
 
@@ -83,6 +88,9 @@ public class Grade {
 
     @Override
     public int hashCode() {
-        return Objects.hash(subject, assessment, score);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(subject, assessment, score);
+        }
+        return hashCode;
     }
 }
@@ -2,22 +2,29 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import seedu.address.commons.util.PersistentTreeMap;
+
 /**
  * Represents a collection of grades for a person.
+ * Grades are kept in the order of their "subject/assessment" keys, so the grades of a subject are listed together
+ * wherever the grades are shown or saved.
  * Guarantees: immutable; grades are always valid
  */
 public class GradeList {
-    private final Map<String, Grade> grades;
+    // Keyed by "subject/assessment". Adding or removing a grade shares all but O(log n) entries with this list.
+    private final PersistentTreeMap<String, Grade> grades;
+
+    // Computed by the first call to hashCode, so that later calls do not walk every grade.
+    private int hashCode;
 
     /**
      * Constructs an empty GradeList.
      */
     public GradeList() {
-        this.grades = new HashMap<>();
+        this.grades = PersistentTreeMap.empty();
     }
 
     /**
@@ -25,7 +32,11 @@ public class GradeList {
      */
     public GradeList(Map<String, Grade> grades) {
         requireNonNull(grades);
-        this.grades = new HashMap<>(grades);
+        this.grades = PersistentTreeMap.of(grades);
+    }
+
+    private GradeList(PersistentTreeMap<String, Grade> grades) {
+        this.grades = grades;
     }
 
     /**
@@ -34,10 +45,8 @@ public class GradeList {
      */
     public GradeList addGrade(Grade grade) {
         requireNonNull(grade);
-        Map<String, Grade> newGrades = new HashMap<>(this.grades);
         String key = grade.getSubject() + "/" + grade.getAssessment();
-        newGrades.put(key, grade);
-        return new GradeList(newGrades);
+        return new GradeList(grades.put(key, grade));
     }
 
     /**
@@ -46,9 +55,7 @@ public class GradeList {
     public GradeList removeGrade(String subject, String assessment) {
         requireNonNull(subject);
         requireNonNull(assessment);
-        Map<String, Grade> newGrades = new HashMap<>(this.grades);
-        newGrades.remove(subject + "/" + assessment);
-        return new GradeList(newGrades);
+        return new GradeList(grades.remove(subject + "/" + assessment));
     }
 
     /**
@@ -68,10 +75,10 @@ public class GradeList {
     }
 
     /**
-     * Returns all grades as a map.
+     * Returns all grades as a map that iterates in the order of their "subject/assessment" keys.
      */
     public Map<String, Grade> getGrades() {
-        return new HashMap<>(grades);
+        return grades.toMap();
     }
 
     /**
@@ -110,6 +117,9 @@ public class GradeList {
 
     @Override
     public int hashCode() {
-        return Objects.hash(grades);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(grades);
+        }
+        return hashCode;
     }
 }
@@ -3,16 +3,20 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Objects;
 
+import seedu.address.model.util.StringPool;
+
 /**
  * Represents a Person's Lesson in the address book.
  * Guarantees: immutable; is always valid
  */
 public class Lesson implements Comparable<Lesson> {
 
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final long MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
     private final LocalTime start;
     private final LocalTime end;
     private final LocalDate date;
@@ -20,6 +24,13 @@ public class Lesson implements Comparable<Lesson> {
     private final String sub;
     private final boolean isPresent;
 
+    // The start and end in minutes since the epoch, so that lessons are compared without allocating
+    private final long startEpochMinute;
+    private final long endEpochMinute;
+
+    // Computed by the first call to hashCode.
+    private int hashCode;
+
 
     /**
      * Constructs a {@code Lesson} with isPresent set to false.
@@ -30,13 +41,7 @@ public class Lesson implements Comparable<Lesson> {
      * @param sub A valid subject
      */
     public Lesson(String start, String end, String date, String sub) {
-        requireAllNonNull(start, end, date, sub);
-        this.start = LocalTime.parse(start);
-        this.end = LocalTime.parse(end);
-        this.date = LocalDate.parse(date);
-        this.sub = sub;
-        this.endDate = this.date;
-        this.isPresent = false;
+        this(start, end, date, sub, false);
     }
 
     /**
@@ -48,13 +53,7 @@ public class Lesson implements Comparable<Lesson> {
      * @param sub A valid subject
      */
     public Lesson(LocalTime start, LocalTime end, LocalDate date, String sub) {
-        requireAllNonNull(start, end, date, sub);
-        this.start = start;
-        this.end = end;
-        this.date = date;
-        this.sub = sub;
-        this.endDate = date;
-        this.isPresent = false;
+        this(start, end, date, date, sub, false);
     }
 
     /**
@@ -67,13 +66,7 @@ public class Lesson implements Comparable<Lesson> {
      * @param isPresent The attendance status
      */
     public Lesson(String start, String end, String date, String sub, boolean isPresent) {
-        requireAllNonNull(start, end, date, sub);
-        this.start = LocalTime.parse(start);
-        this.end = LocalTime.parse(end);
-        this.date = LocalDate.parse(date);
-        this.sub = sub;
-        this.endDate = LocalDate.parse(date);
-        this.isPresent = isPresent;
+        this(start, end, date, date, sub, isPresent);
     }
 
     /**
@@ -86,13 +79,7 @@ public class Lesson implements Comparable<Lesson> {
      * @param isPresent The attendance status
      */
     public Lesson(LocalTime start, LocalTime end, LocalDate date, String sub, boolean isPresent) {
-        requireAllNonNull(start, end, date, sub);
-        this.start = start;
-        this.end = end;
-        this.date = date;
-        this.sub = sub;
-        this.endDate = date;
-        this.isPresent = isPresent;
+        this(start, end, date, date, sub, isPresent);
     }
 
     /**
@@ -126,8 +113,10 @@ public class Lesson implements Comparable<Lesson> {
         this.end = end;
         this.date = date;
         this.endDate = endDate;
-        this.sub = sub;
+        this.sub = StringPool.intern(sub);
         this.isPresent = isPresent;
+        this.startEpochMinute = toEpochMinute(date, start);
+        this.endEpochMinute = toEpochMinute(endDate, end);
     }
 
     public LocalTime getStart() {
@@ -154,17 +143,45 @@ public class Lesson implements Comparable<Lesson> {
         return this.isPresent;
     }
 
+    /**
+     * Returns the start of the lesson in minutes since the epoch, in local time.
+     */
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    /**
+     * Returns the end of the lesson in minutes since the epoch, in local time.
+     */
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
+
+    /**
+     * Returns {@code time} on {@code date} in minutes since the epoch, in local time.
+     */
+    static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
     /**
      * Returns true if this lesson overlaps in time with {@code other} on the same date.
      * Lessons that end exactly when another begins are not considered overlapping.
      */
     public boolean overlapsWith(Lesson other) {
         requireAllNonNull(other);
-        LocalDateTime startDateTime = date.atTime(start);
-        LocalDateTime endDateTime = endDate.atTime(end);
-        LocalDateTime otherStart = other.date.atTime(other.start);
-        LocalDateTime otherEnd = other.endDate.atTime(other.end);
-        return startDateTime.isBefore(otherEnd) && endDateTime.isAfter(otherStart);
+        return startEpochMinute < other.endEpochMinute && endEpochMinute > other.startEpochMinute;
+    }
+
+    /**
+     * Returns true if {@code other} takes place at the same time for the same subject, such as the lesson of another
+     * student in the same class.
+     */
+    public boolean isSameClassAs(Lesson other) {
+        requireAllNonNull(other);
+        return startEpochMinute == other.startEpochMinute
+                && endEpochMinute == other.endEpochMinute
+                && sub.equals(other.sub);
     }
 
     /**
@@ -177,20 +194,20 @@ public class Lesson implements Comparable<Lesson> {
 
     /**
      * Compares this lesson with another lesson chronologically.
-     * Lessons are ordered by date first, then by start time.
+     * Lessons are ordered by start first, then by end.
      *
      * @param other the lesson to compare to
      * @return negative if this lesson is before other, positive if after, 0 if same time
      */
     @Override
     public int compareTo(Lesson other) {
-        // First compare by date
-        int dateComparison = this.date.atTime(start).compareTo(other.date.atTime(other.start));
-        if (dateComparison != 0) {
-            return dateComparison;
+        // First compare by start
+        int startComparison = Long.compare(startEpochMinute, other.startEpochMinute);
+        if (startComparison != 0) {
+            return startComparison;
         }
-        // If same date, compare by start time
-        return this.endDate.atTime(end).compareTo(other.endDate.atTime(other.end));
+        // If same start, compare by end
+        return Long.compare(endEpochMinute, other.endEpochMinute);
     }
 
     @Override
@@ -215,7 +232,10 @@ public class Lesson implements Comparable<Lesson> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end, date, endDate, sub);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(start, end, date, endDate, sub);
+        }
+        return hashCode;
     }
 
     @Override
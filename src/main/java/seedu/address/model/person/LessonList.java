@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Objects;
@@ -10,119 +12,118 @@ import java.util.Objects;
  */
 public class LessonList {
 
-    private final ArrayList<Lesson> list;
+    // The lessons in chronological order, or null if there are none. Updates share all but O(log n) nodes of the
+    // tree with the list they were made from.
+    private final LessonTree lessons;
+
+    // Computed by the first call to hashCode, so that later calls do not walk every lesson.
+    private int hashCode;
 
     /**
      * Constructs an empty {@code LessonList}.
      */
     public LessonList() {
-        this.list = new ArrayList<>();
+        this.lessons = null;
     }
 
     /**
      * Constructs a {@code LessonList} with given ArrayList.
      */
     public LessonList(ArrayList<Lesson> list) {
-        this.list = new ArrayList<>(list);
-        sortLessons();
+        ArrayList<Lesson> sortedList = new ArrayList<>(list);
+        Collections.sort(sortedList);
+        this.lessons = LessonTree.of(sortedList);
+    }
+
+    private LessonList(LessonTree lessons) {
+        this.lessons = lessons;
     }
 
     /**
      * Checks for duplicates of the lesson in the list
      */
     public boolean hasDuplicates(Lesson lesson) {
-        for (Lesson l: list) {
-            if (lesson.equals(l)) {
-                return true;
-            }
-        }
-        return false;
+        return LessonTree.contains(lessons, lesson);
     }
 
     /**
      * Returns true if {@code lesson} overlaps in time with any lesson already inside the list.
      */
     public boolean hasOverlappingLesson(Lesson lesson) {
-        for (Lesson existing : list) {
-            if (existing.overlapsWith(lesson)) {
-                return true;
-            }
-        }
-        return false;
+        return LessonTree.hasOverlapping(lessons, lesson.getStartEpochMinute(), lesson.getEndEpochMinute());
     }
 
     /**
-     * Returns a new LessonList with the lesson added in chronological order.
-     * Does not modify the original LessonList.
+     * Returns true if a lesson in the list takes place on {@code date}, whether it starts, ends or runs through it.
      */
-    public LessonList add(Lesson lesson) {
-        ArrayList<Lesson> newList = new ArrayList<>(list);
-        int insertIndex = findInsertionIndex(lesson, newList);
-        newList.add(insertIndex, lesson);
-        return new LessonList(newList);
+    public boolean hasLessonOn(LocalDate date) {
+        // Such a lesson starts before the next day and ends at or after the start of the date.
+        return LessonTree.hasOverlapping(lessons, Lesson.toEpochMinute(date, LocalTime.MIDNIGHT) - 1,
+                Lesson.toEpochMinute(date.plusDays(1), LocalTime.MIDNIGHT));
     }
 
     /**
-     * Finds the correct index to insert a lesson while maintaining chronological order.
+     * Returns a new LessonList with the lesson added in chronological order.
+     * Does not modify the original LessonList.
      */
-    private int findInsertionIndex(Lesson newLesson, ArrayList<Lesson> targetList) {
-        for (int i = 0; i < targetList.size(); i++) {
-            if (targetList.get(i).compareTo(newLesson) > 0) {
-                return i;
-            }
-        }
-        return targetList.size();
+    public LessonList add(Lesson lesson) {
+        return new LessonList(LessonTree.insert(lessons, lesson));
     }
 
     /**
-     * Sorts the existing list chronologically.
+     * Removes a lesson from the list.
      */
-    private void sortLessons() {
-        Collections.sort(list);
+    public LessonList remove(Lesson lesson) {
+        return new LessonList(LessonTree.remove(lessons, lesson));
     }
 
     /**
-     * Removes a lesson from the list.
+     * Returns a new LessonList with the lesson at the specified index replaced by {@code lesson}, kept in
+     * chronological order.
+     * Does not modify the original LessonList.
      */
-    public LessonList remove(Lesson lesson) {
-        ArrayList<Lesson> newList = new ArrayList<>(list);
-        newList.remove(lesson);
-        return new LessonList(newList);
+    public LessonList set(int index, Lesson lesson) {
+        if (get(index).compareTo(lesson) == 0) {
+            return new LessonList(LessonTree.replace(lessons, index, lesson));
+        }
+        return new LessonList(LessonTree.insert(LessonTree.removeAt(lessons, index), lesson));
     }
 
     /**
      * Returns the lesson at the specified index.
      */
     public Lesson get(int index) {
-        return list.get(index);
+        return LessonTree.get(lessons, index);
     }
 
     /**
      * Returns the number of lessons in the list.
      */
     public int size() {
-        return list.size();
+        return LessonTree.size(lessons);
     }
 
     /**
      * Returns the number of attended lessons in the list.
      */
     public long getAttendedLessonCount() {
-        return list.stream().filter(lesson -> lesson.isPresent()).count();
+        return LessonTree.attendedCount(lessons);
     }
 
     /**
      * Returns an unmodifiable view of the lesson list.
      */
     public ArrayList<Lesson> getLessons() {
-        return new ArrayList<>(list);
+        ArrayList<Lesson> list = new ArrayList<>(size());
+        LessonTree.addAllTo(lessons, list);
+        return list;
     }
 
     /**
      * Checks if the list is empty.
      */
     public boolean isEmpty() {
-        return list.isEmpty();
+        return lessons == null;
     }
 
     @Override
@@ -137,11 +138,14 @@ public class LessonList {
         }
 
         LessonList otherLessonList = (LessonList) other;
-        return list.equals(otherLessonList.list);
+        return size() == otherLessonList.size() && getLessons().equals(otherLessonList.getLessons());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(list);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(getLessons());
+        }
+        return hashCode;
     }
 }
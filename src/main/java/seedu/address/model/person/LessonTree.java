@@ -0,0 +1,235 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * A node of an immutable, balanced (AVL) binary search tree of lessons in chronological order, as used by
+ * {@link LessonList}. An empty tree is represented by null, so the operations are static methods.
+ * Besides its lesson, every node keeps the number of lessons, the number of attended lessons and the latest end among
+ * the lessons in its subtree, which lets lessons be found by position and overlaps be checked in O(log n).
+ * Adding or removing a lesson copies only the nodes on the path to it and shares every other node with the original
+ * tree.
+ */
+final class LessonTree {
+
+    private final Lesson lesson;
+    private final LessonTree left;
+    private final LessonTree right;
+    private final int height;
+    private final int size;
+    private final int attendedCount;
+    private final long maxEndEpochMinute;
+
+    private LessonTree(Lesson lesson, LessonTree left, LessonTree right) {
+        this.lesson = lesson;
+        this.left = left;
+        this.right = right;
+        height = Math.max(height(left), height(right)) + 1;
+        size = size(left) + size(right) + 1;
+        attendedCount = attendedCount(left) + attendedCount(right) + (lesson.isPresent() ? 1 : 0);
+        maxEndEpochMinute = Math.max(lesson.getEndEpochMinute(),
+                Math.max(maxEndEpochMinute(left), maxEndEpochMinute(right)));
+    }
+
+    /**
+     * Returns a tree of {@code sortedLessons}, which must be in chronological order.
+     */
+    static LessonTree of(List<Lesson> sortedLessons) {
+        return of(sortedLessons, 0, sortedLessons.size());
+    }
+
+    private static LessonTree of(List<Lesson> sortedLessons, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new LessonTree(sortedLessons.get(mid), of(sortedLessons, from, mid), of(sortedLessons, mid + 1, to));
+    }
+
+    static int size(LessonTree tree) {
+        return tree == null ? 0 : tree.size;
+    }
+
+    static int attendedCount(LessonTree tree) {
+        return tree == null ? 0 : tree.attendedCount;
+    }
+
+    /**
+     * Returns the lesson at {@code index} in chronological order.
+     */
+    static Lesson get(LessonTree tree, int index) {
+        if (index < 0 || index >= size(tree)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size(tree));
+        }
+        while (true) {
+            int leftSize = size(tree.left);
+            if (index == leftSize) {
+                return tree.lesson;
+            } else if (index < leftSize) {
+                tree = tree.left;
+            } else {
+                index -= leftSize + 1;
+                tree = tree.right;
+            }
+        }
+    }
+
+    /**
+     * Appends the lessons of {@code tree} to {@code lessons} in chronological order.
+     */
+    static void addAllTo(LessonTree tree, List<Lesson> lessons) {
+        if (tree == null) {
+            return;
+        }
+        addAllTo(tree.left, lessons);
+        lessons.add(tree.lesson);
+        addAllTo(tree.right, lessons);
+    }
+
+    /**
+     * Returns true if {@code tree} contains a lesson equal to {@code lesson}.
+     */
+    static boolean contains(LessonTree tree, Lesson lesson) {
+        if (tree == null) {
+            return false;
+        }
+        int comparison = lesson.compareTo(tree.lesson);
+        if (comparison < 0) {
+            return contains(tree.left, lesson);
+        } else if (comparison > 0) {
+            return contains(tree.right, lesson);
+        }
+        // Lessons at the same time may sit on either side.
+        return lesson.equals(tree.lesson) || contains(tree.left, lesson) || contains(tree.right, lesson);
+    }
+
+    /**
+     * Returns true if a lesson in {@code tree} starts before {@code endEpochMinute} and ends after
+     * {@code startEpochMinute}.
+     */
+    static boolean hasOverlapping(LessonTree tree, long startEpochMinute, long endEpochMinute) {
+        while (tree != null) {
+            if (tree.lesson.getStartEpochMinute() >= endEpochMinute) {
+                // Neither this lesson nor the later ones start in time.
+                tree = tree.left;
+                continue;
+            }
+            // Every earlier lesson starts in time too, so one of them overlaps if any ends after the start.
+            if (maxEndEpochMinute(tree.left) > startEpochMinute
+                    || tree.lesson.getEndEpochMinute() > startEpochMinute) {
+                return true;
+            }
+            tree = tree.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a tree with {@code lesson} added after the lessons at the same time.
+     */
+    static LessonTree insert(LessonTree tree, Lesson lesson) {
+        if (tree == null) {
+            return new LessonTree(lesson, null, null);
+        }
+        if (lesson.compareTo(tree.lesson) < 0) {
+            return balance(tree.lesson, insert(tree.left, lesson), tree.right);
+        }
+        return balance(tree.lesson, tree.left, insert(tree.right, lesson));
+    }
+
+    /**
+     * Returns a tree with the lesson at {@code index} replaced by {@code lesson}, which must be at the same time.
+     */
+    static LessonTree replace(LessonTree tree, int index, Lesson lesson) {
+        int leftSize = size(tree.left);
+        if (index < leftSize) {
+            return new LessonTree(tree.lesson, replace(tree.left, index, lesson), tree.right);
+        } else if (index > leftSize) {
+            return new LessonTree(tree.lesson, tree.left, replace(tree.right, index - leftSize - 1, lesson));
+        }
+        return new LessonTree(lesson, tree.left, tree.right);
+    }
+
+    /**
+     * Returns a tree without the first lesson equal to {@code lesson}, or {@code tree} itself if there is none.
+     */
+    static LessonTree remove(LessonTree tree, Lesson lesson) {
+        if (tree == null) {
+            return null;
+        }
+
+        int comparison = lesson.compareTo(tree.lesson);
+        if (comparison <= 0) {
+            LessonTree newLeft = remove(tree.left, lesson);
+            if (newLeft != tree.left) {
+                return balance(tree.lesson, newLeft, tree.right);
+            }
+        }
+        if (comparison == 0 && lesson.equals(tree.lesson)) {
+            return removeRoot(tree);
+        }
+        if (comparison >= 0) {
+            LessonTree newRight = remove(tree.right, lesson);
+            if (newRight != tree.right) {
+                return balance(tree.lesson, tree.left, newRight);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Returns a tree without the lesson at {@code index}.
+     */
+    static LessonTree removeAt(LessonTree tree, int index) {
+        int leftSize = size(tree.left);
+        if (index < leftSize) {
+            return balance(tree.lesson, removeAt(tree.left, index), tree.right);
+        } else if (index > leftSize) {
+            return balance(tree.lesson, tree.left, removeAt(tree.right, index - leftSize - 1));
+        }
+        return removeRoot(tree);
+    }
+
+    private static LessonTree removeRoot(LessonTree tree) {
+        if (tree.left == null) {
+            return tree.right;
+        } else if (tree.right == null) {
+            return tree.left;
+        }
+        return balance(get(tree.right, 0), tree.left, removeAt(tree.right, 0));
+    }
+
+    /**
+     * Returns a tree of {@code lesson} and the given subtrees, rotated so that the heights of its subtrees differ by
+     * at most one. The subtrees must already be balanced and differ in height by at most two.
+     */
+    private static LessonTree balance(Lesson lesson, LessonTree left, LessonTree right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new LessonTree(left.lesson, left.left, new LessonTree(lesson, left.right, right));
+            }
+            LessonTree pivot = left.right;
+            return new LessonTree(pivot.lesson, new LessonTree(left.lesson, left.left, pivot.left),
+                    new LessonTree(lesson, pivot.right, right));
+        }
+
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new LessonTree(right.lesson, new LessonTree(lesson, left, right.left), right.right);
+            }
+            LessonTree pivot = right.left;
+            return new LessonTree(pivot.lesson, new LessonTree(lesson, left, pivot.left),
+                    new LessonTree(right.lesson, pivot.right, right.right));
+        }
+
+        return new LessonTree(lesson, left, right);
+    }
+
+    private static int height(LessonTree tree) {
+        return tree == null ? 0 : tree.height;
+    }
+
+    private static long maxEndEpochMinute(LessonTree tree) {
+        return tree == null ? Long.MIN_VALUE : tree.maxEndEpochMinute;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -26,17 +27,27 @@ public class Person {
     private final Name name;
     private final Phone phone;
     private final Email email;
+    private final String identityKey;
+
+    // Lower-cased copies of the identity fields for case-insensitive searches
+    private final String searchableName;
+    private final String searchablePhone;
+    private final String searchableEmail;
 
     // Data fields
     private final Address address;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Attribute> attributes = new HashSet<>();
+    // Never modified after construction, so copies made by the with... methods share them when unchanged.
+    private final Set<Tag> tags;
+    private final Set<Attribute> attributes;
     // UI-specific state, not part of core data model
     private final transient BooleanProperty isExpanded = new SimpleBooleanProperty(false);
     private final LessonList lessonList;
     private final GradeList gradeList;
 
+    // Computed by the first call to hashCode. Every field hashed is immutable, so the value never goes stale.
+    private int hashCode;
+
     /**
      * Every field must be present and not null.
      *
@@ -63,14 +74,98 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.email = email;
+        this.identityKey = toIdentityKey(name);
+        this.searchableName = name.fullName.toLowerCase();
+        this.searchablePhone = phone.value.toLowerCase();
+        this.searchableEmail = email.value.toLowerCase();
+        this.address = address;
+        this.remark = remark;
+        this.tags = new HashSet<>(tags);
+        this.attributes = new HashSet<>(attributes);
+        this.lessonList = lessonList;
+        this.gradeList = gradeList;
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given fields. The sets are taken as they are, so they must not be
+     * modified afterwards. The lower-cased copies and identity key are reused when the identity fields are unchanged.
+     */
+    private Person(Person source, Name name, Phone phone, Email email, Address address, Remark remark, Set<Tag> tags,
+                   Set<Attribute> attributes, LessonList lessonList, GradeList gradeList) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        boolean isSameName = name.equals(source.name);
+        this.identityKey = isSameName ? source.identityKey : toIdentityKey(name);
+        this.searchableName = isSameName ? source.searchableName : name.fullName.toLowerCase();
+        this.searchablePhone = phone.equals(source.phone) ? source.searchablePhone : phone.value.toLowerCase();
+        this.searchableEmail = email.equals(source.email) ? source.searchableEmail : email.value.toLowerCase();
         this.address = address;
         this.remark = remark;
-        this.tags.addAll(tags);
-        this.attributes.addAll(attributes);
+        this.tags = tags;
+        this.attributes = attributes;
         this.lessonList = lessonList;
         this.gradeList = gradeList;
     }
 
+    /**
+     * Returns a copy of this person with the given name, phone, email and address, sharing all other fields.
+     */
+    public Person withContactDetails(Name name, Phone phone, Email email, Address address) {
+        requireAllNonNull(name, phone, email, address);
+        return new Person(this, name, phone, email, address, remark, tags, attributes, lessonList, gradeList);
+    }
+
+    /**
+     * Returns a copy of this person with the given remark, sharing all other fields.
+     */
+    public Person withRemark(Remark remark) {
+        return new Person(this, name, phone, email, address, remark, tags, attributes, lessonList, gradeList);
+    }
+
+    /**
+     * Returns a copy of this person with the given tags, sharing all other fields.
+     * The current tag set is kept if it is equal to {@code tags}.
+     */
+    public Person withTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return new Person(this, name, phone, email, address, remark, reuseIfEqual(this.tags, tags), attributes,
+                lessonList, gradeList);
+    }
+
+    /**
+     * Returns a copy of this person with the given attributes, sharing all other fields.
+     * The current attribute set is kept if it is equal to {@code attributes}.
+     */
+    public Person withAttributes(Set<Attribute> attributes) {
+        requireNonNull(attributes);
+        return new Person(this, name, phone, email, address, remark, tags, reuseIfEqual(this.attributes, attributes),
+                lessonList, gradeList);
+    }
+
+    /**
+     * Returns a copy of this person with the given lessons, sharing all other fields.
+     */
+    public Person withLessonList(LessonList lessonList) {
+        requireNonNull(lessonList);
+        return new Person(this, name, phone, email, address, remark, tags, attributes, lessonList, gradeList);
+    }
+
+    /**
+     * Returns a copy of this person with the given grades, sharing all other fields.
+     */
+    public Person withGradeList(GradeList gradeList) {
+        requireNonNull(gradeList);
+        return new Person(this, name, phone, email, address, remark, tags, attributes, lessonList, gradeList);
+    }
+
+    /**
+     * Returns {@code current} if it is equal to {@code updated}, or else a copy of {@code updated}.
+     */
+    private static <T> Set<T> reuseIfEqual(Set<T> current, Set<T> updated) {
+        return current.equals(updated) ? current : new HashSet<>(updated);
+    }
+
     /**
      * Returns the name of the person.
      */
@@ -162,6 +257,36 @@ public class Person {
         return Collections.unmodifiableSet(attributes);
     }
 
+    /**
+     * Returns the canonical identity key of the person, i.e. the name with all whitespace removed, lower-cased.
+     * The key is computed once at construction. Its {@code equals} and {@code hashCode} define the same notion of
+     * identity as {@link #isSamePerson(Person)}, so it can be used directly as a key in hash-based collections.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns the lower-cased name of the person, computed once at construction.
+     */
+    public String getSearchableName() {
+        return searchableName;
+    }
+
+    /**
+     * Returns the lower-cased phone number of the person, computed once at construction.
+     */
+    public String getSearchablePhone() {
+        return searchablePhone;
+    }
+
+    /**
+     * Returns the lower-cased email of the person, computed once at construction.
+     */
+    public String getSearchableEmail() {
+        return searchableEmail;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -178,9 +303,14 @@ public class Person {
             return false;
         }
 
-        String thisName = this.getName().fullName.replaceAll("\\s+", "").toLowerCase();
-        String otherName = otherPerson.getName().fullName.replaceAll("\\s+", "").toLowerCase();
-        return thisName.equals(otherName);
+        return identityKey.equals(otherPerson.identityKey);
+    }
+
+    /**
+     * Returns the canonical identity key for a person with the given {@code name}.
+     */
+    private static String toIdentityKey(Name name) {
+        return name.fullName.replaceAll("\\s+", "").toLowerCase();
     }
 
     /**
@@ -202,6 +332,10 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        // The hash codes are cached, so persons that differ are usually told apart without comparing their fields.
+        if (hashCode() != otherPerson.hashCode()) {
+            return false;
+        }
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -219,8 +353,11 @@ public class Person {
      */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, attributes, lessonList, gradeList);
+        if (hashCode == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hashCode = Objects.hash(name, phone, email, address, tags, attributes, lessonList, gradeList);
+        }
+        return hashCode;
     }
 
     /**
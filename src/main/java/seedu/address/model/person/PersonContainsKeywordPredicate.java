@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -15,6 +16,8 @@ public class PersonContainsKeywordPredicate implements Predicate<Person> {
     private static final Logger logger = LogsCenter.getLogger(PersonContainsKeywordPredicate.class);
 
     private final List<String> keywords;
+    // Lower-cased and trimmed once here, so that testing a person does not allocate
+    private final String[] normalizedKeywords;
 
     /**
      * Constructs a {@code PersonContainsKeywordPredicate} with the specified list of keywords.
@@ -24,6 +27,21 @@ public class PersonContainsKeywordPredicate implements Predicate<Person> {
     public PersonContainsKeywordPredicate(List<String> keywords) {
         assert keywords != null : "Keywords list should not be null";
         this.keywords = keywords;
+        this.normalizedKeywords = keywords == null ? null : normalize(keywords);
+    }
+
+    private static String[] normalize(List<String> keywords) {
+        String[] normalizedKeywords = new String[keywords.size()];
+        for (int i = 0; i < normalizedKeywords.length; i++) {
+            String keyword = keywords.get(i);
+            assert keyword != null : "Individual keyword should not be null";
+            normalizedKeywords[i] = keyword.toLowerCase().trim();
+        }
+        return normalizedKeywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     /**
@@ -40,33 +58,30 @@ public class PersonContainsKeywordPredicate implements Predicate<Person> {
     public boolean test(Person person) {
         assert person != null : "Person to test should not be null";
 
-        if (keywords == null) {
+        if (normalizedKeywords == null) {
             logger.warning("Keywords list is null — returning true defensively");
             return true;
         }
 
-        if (keywords.isEmpty()) {
+        if (normalizedKeywords.length == 0) {
             return true;
         }
 
-        String name = person.getName().fullName.toLowerCase();
-        String phone = person.getPhone().value.toLowerCase();
-        String email = person.getEmail().value.toLowerCase();
+        String name = person.getSearchableName();
+        String phone = person.getSearchablePhone();
+        String email = person.getSearchableEmail();
 
-        boolean matchFound = keywords.stream().anyMatch(keyword -> {
-            assert keyword != null : "Individual keyword should not be null";
-            String lowerKeyword = keyword.toLowerCase().trim();
-
-            return name.contains(lowerKeyword)
-                    || phone.contains(lowerKeyword)
-                    || email.contains(lowerKeyword);
-        });
+        for (String keyword : normalizedKeywords) {
+            if (name.contains(keyword) || phone.contains(keyword) || email.contains(keyword)) {
+                return true;
+            }
+        }
 
-        if (!matchFound) {
+        if (logger.isLoggable(Level.FINE)) {
             logger.fine("No match found for: " + keywords + " in person: " + person.getName());
         }
 
-        return matchFound;
+        return false;
     }
 
     /**
@@ -82,5 +97,10 @@ public class PersonContainsKeywordPredicate implements Predicate<Person> {
                 || (other instanceof PersonContainsKeywordPredicate
                 && keywords.equals(((PersonContainsKeywordPredicate) other).keywords));
     }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
 }
 
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A lesson in the timetable of the tutor, together with the person it is scheduled for.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class ScheduledLesson {
+
+    private final Person person;
+    private final Lesson lesson;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ScheduledLesson(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        this.person = person;
+        this.lesson = lesson;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduledLesson)) {
+            return false;
+        }
+
+        ScheduledLesson otherScheduledLesson = (ScheduledLesson) other;
+        return person.equals(otherScheduledLesson.person)
+                && lesson.equals(otherScheduledLesson.lesson);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * person.hashCode() + lesson.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("lesson", lesson)
+                .toString();
+    }
+}
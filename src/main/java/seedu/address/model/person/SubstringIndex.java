@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A trigram index of the lower-cased name, phone and email of persons, mapping every three-character substring to
+ * the identity keys (see {@code Person#getIdentityKey()}) of the persons containing it.
+ * Lets partial-match searches narrow down the persons that may contain a keyword without scanning every person.
+ */
+public class SubstringIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    /**
+     * Adds the name, phone and email of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String gram : getGrams(person)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(identityKey);
+        }
+    }
+
+    /**
+     * Removes the name, phone and email of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String gram : getGrams(person)) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null && posting.remove(identityKey) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the identity keys of the persons whose name, phone or email may contain any of {@code keywords}.
+     * Keywords are compared like {@link PersonContainsKeywordPredicate} does. Every person containing a keyword is
+     * returned, but so may be persons that only contain all of its trigrams, so candidates still have to be tested.
+     * Returns an empty {@code Optional} if a keyword is shorter than {@link #GRAM_LENGTH}, as such a keyword cannot
+     * narrow down the persons.
+     */
+    public Optional<Set<String>> findCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            String normalizedKeyword = keyword.toLowerCase().trim();
+            if (normalizedKeyword.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            candidates.addAll(findCandidates(normalizedKeyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the identity keys of the persons containing every trigram of {@code normalizedKeyword}.
+     */
+    private Set<String> findCandidates(String normalizedKeyword) {
+        List<Set<String>> postingsOfGrams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedKeyword.length(); i++) {
+            Set<String> posting = postings.get(normalizedKeyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            postingsOfGrams.add(posting);
+        }
+
+        // Starting from the smallest set bounds the work of each intersection by the size of the result so far.
+        postingsOfGrams.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(postingsOfGrams.get(0));
+        for (int i = 1; i < postingsOfGrams.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingsOfGrams.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> getGrams(Person person) {
+        Set<String> grams = new HashSet<>();
+        addGrams(person.getSearchableName(), grams);
+        addGrams(person.getSearchablePhone(), grams);
+        addGrams(person.getSearchableEmail(), grams);
+        return grams;
+    }
+
+    private static void addGrams(String field, Set<String> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+            grams.add(field.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+}
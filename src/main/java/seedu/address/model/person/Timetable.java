@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * The timetable of the tutor: every lesson of every person, ordered by start.
+ * Lets the lessons in a time range be found without going through every person. As lessons are kept by start, only
+ * the lessons starting in the range, or less than the length of the longest lesson before it, are looked at.
+ * Lessons are kept with the identity key (see {@code Person#getIdentityKey()}) of their person, which is only looked
+ * up when the lessons are found, so a person can be edited without touching the timetable if their lessons and
+ * identity stay the same.
+ */
+public class Timetable {
+
+    private final NavigableMap<Long, List<Entry>> lessonsByStart = new TreeMap<>();
+    // How many lessons have each duration in minutes, to know the longest lesson as lessons come and go
+    private final NavigableMap<Long, Integer> durationCounts = new TreeMap<>();
+    private final Function<String, Person> personLookup;
+
+    /**
+     * Creates an empty timetable that finds the person with an identity key through {@code personLookup}.
+     */
+    public Timetable(Function<String, Person> personLookup) {
+        requireNonNull(personLookup);
+        this.personLookup = personLookup;
+    }
+
+    /**
+     * Adds the lessons of {@code person} to the timetable.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (Lesson lesson : person.getLessonList().getLessons()) {
+            lessonsByStart.computeIfAbsent(lesson.getStartEpochMinute(), unused -> new ArrayList<>())
+                    .add(new Entry(identityKey, lesson));
+            durationCounts.merge(getDuration(lesson), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the lessons of {@code person} from the timetable.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (Lesson lesson : person.getLessonList().getLessons()) {
+            List<Entry> lessonsAtStart = lessonsByStart.get(lesson.getStartEpochMinute());
+            if (lessonsAtStart == null || !removeFirst(lessonsAtStart, identityKey, lesson)) {
+                continue;
+            }
+            if (lessonsAtStart.isEmpty()) {
+                lessonsByStart.remove(lesson.getStartEpochMinute());
+            }
+            durationCounts.computeIfPresent(getDuration(lesson), (unused, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Removes every lesson from the timetable.
+     */
+    public void clear() {
+        lessonsByStart.clear();
+        durationCounts.clear();
+    }
+
+    /**
+     * Returns the lessons overlapping {@code lesson} in time, ordered by start.
+     * Lessons that end exactly when {@code lesson} begins, or begin exactly when it ends, do not overlap it.
+     */
+    public List<ScheduledLesson> findOverlapping(Lesson lesson) {
+        requireNonNull(lesson);
+        return findOverlapping(lesson.getStartEpochMinute(), lesson.getEndEpochMinute());
+    }
+
+    /**
+     * Returns the lessons taking place at any time from the start of {@code startDate} to the end of
+     * {@code endDate}, ordered by start.
+     */
+    public List<ScheduledLesson> findBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return findOverlapping(Lesson.toEpochMinute(startDate, LocalTime.MIDNIGHT),
+                Lesson.toEpochMinute(endDate.plusDays(1), LocalTime.MIDNIGHT));
+    }
+
+    /**
+     * Returns the number of lessons in the timetable.
+     */
+    public int size() {
+        return durationCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private List<ScheduledLesson> findOverlapping(long startEpochMinute, long endEpochMinute) {
+        List<ScheduledLesson> overlapping = new ArrayList<>();
+        if (lessonsByStart.isEmpty()) {
+            return overlapping;
+        }
+
+        long earliestStartEpochMinute = startEpochMinute - durationCounts.lastKey();
+        if (earliestStartEpochMinute >= endEpochMinute) {
+            return overlapping;
+        }
+
+        for (List<Entry> lessonsAtStart : lessonsByStart
+                .subMap(earliestStartEpochMinute, false, endEpochMinute, false).values()) {
+            for (Entry entry : lessonsAtStart) {
+                if (entry.lesson.getEndEpochMinute() > startEpochMinute) {
+                    overlapping.add(new ScheduledLesson(personLookup.apply(entry.identityKey), entry.lesson));
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Removes the first entry of {@code lesson} scheduled for the person with {@code identityKey} from
+     * {@code lessonsAtStart}. Returns true if an entry was removed.
+     */
+    private static boolean removeFirst(List<Entry> lessonsAtStart, String identityKey, Lesson lesson) {
+        Iterator<Entry> iterator = lessonsAtStart.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.identityKey.equals(identityKey) && entry.lesson.equals(lesson)) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long getDuration(Lesson lesson) {
+        return lesson.getEndEpochMinute() - lesson.getStartEpochMinute();
+    }
+
+    /**
+     * A lesson in the timetable and the identity key of the person it is scheduled for.
+     */
+    private static final class Entry {
+        private final String identityKey;
+        private final Lesson lesson;
+
+        Entry(String identityKey, Lesson lesson) {
+            this.identityKey = identityKey;
+            this.lesson = lesson;
+        }
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +25,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A map from identity keys (see {@code Person#getIdentityKey()}) to positions in the backing list is kept alongside
+ * it so that identity checks, and finding the person to replace or remove, run in constant expected time. Adding and
+ * replacing a person stay constant time, but removing one is O(n): the backing list shifts every later person down,
+ * and their positions in the map are updated to match. Every mutation of the backing list must go through this class
+ * to keep the index consistent. An {@link AttributeIndex} of the persons' attributes, a {@link SubstringIndex} of
+ * their names, phones and emails and a {@link Timetable} of their lessons are kept up to date in the same way.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +41,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Integer> identityIndex = new HashMap<>();
+    private final AttributeIndex attributeIndex = new AttributeIndex();
+    private final SubstringIndex substringIndex = new SubstringIndex();
+    private final Timetable timetable = new Timetable(this::getByIdentityKey);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -45,7 +63,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.put(toAdd.getIdentityKey(), internalList.size());
         internalList.add(toAdd);
+        attributeIndex.add(toAdd);
+        substringIndex.add(toAdd);
+        timetable.add(toAdd);
     }
 
     /**
@@ -56,45 +78,162 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        String targetKey = target.getIdentityKey();
+        String editedKey = editedPerson.getIdentityKey();
+        if (!targetKey.equals(editedKey) && identityIndex.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(targetKey);
+        identityIndex.put(editedKey, index);
+
+        // The indexes hold identity keys, so they only change if the identity or the indexed fields do.
+        boolean isSameIdentity = targetKey.equals(editedKey);
+        if (!isSameIdentity || !target.getAttributes().equals(editedPerson.getAttributes())) {
+            attributeIndex.remove(target);
+            attributeIndex.add(editedPerson);
+        }
+        if (!isSameIdentity || !target.getSearchableName().equals(editedPerson.getSearchableName())
+                || !target.getSearchablePhone().equals(editedPerson.getSearchablePhone())
+                || !target.getSearchableEmail().equals(editedPerson.getSearchableEmail())) {
+            substringIndex.remove(target);
+            substringIndex.add(editedPerson);
+        }
+        if (!isSameIdentity || !target.getLessonList().equals(editedPerson.getLessonList())) {
+            timetable.remove(target);
+            timetable.add(editedPerson);
+        }
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * Takes time linear in the number of persons after it, whose positions move down by one.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        identityIndex.remove(toRemove.getIdentityKey());
+        for (int i = index; i < internalList.size(); i++) {
+            identityIndex.put(internalList.get(i).getIdentityKey(), i);
+        }
+        attributeIndex.remove(toRemove);
+        substringIndex.remove(toRemove);
+        timetable.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every group of persons in {@code persons} that share an identity.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<String, Person> personsByIdentity = new HashMap<>();
+        Map<String, List<Person>> duplicateGroups = new LinkedHashMap<>();
+        for (Person person : persons) {
+            String key = person.getIdentityKey();
+            Person firstSeen = personsByIdentity.putIfAbsent(key, person);
+            if (firstSeen != null) {
+                duplicateGroups.computeIfAbsent(key, unused -> newGroup(firstSeen)).add(person);
+            }
+        }
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateGroups.values()));
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            identityIndex.put(internalList.get(i).getIdentityKey(), i);
+        }
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     * Only the person with the same identity is compared, since no other person can be equal to it.
+     */
+    private int indexOf(Person person) {
+        Integer index = identityIndex.get(person.getIdentityKey());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the person with {@code identityKey}, which must be in the list.
+     */
+    private Person getByIdentityKey(String identityKey) {
+        return internalList.get(identityIndex.get(identityKey));
+    }
+
+    private void rebuildIndexes() {
+        attributeIndex.clear();
+        substringIndex.clear();
+        timetable.clear();
+        for (Person person : internalList) {
+            attributeIndex.add(person);
+            substringIndex.add(person);
+            timetable.add(person);
+        }
+    }
+
+    /**
+     * Returns the identity keys of the persons matching every filter in {@code attributeFilters}.
+     *
+     * @see AttributeIndex#findMatches(Map)
+     */
+    public Set<String> findIdentityKeysWithAttributes(Map<String, Set<String>> attributeFilters) {
+        return attributeIndex.findMatches(attributeFilters);
+    }
+
+    /**
+     * Returns the identity keys of the persons whose name, phone or email may contain any of {@code keywords}.
+     *
+     * @see SubstringIndex#findCandidates(List)
+     */
+    public Optional<Set<String>> findCandidateIdentityKeysWithKeywords(List<String> keywords) {
+        return substringIndex.findCandidates(keywords);
+    }
+
+    /**
+     * Returns the lessons of every person overlapping {@code lesson} in time, ordered by start.
+     *
+     * @see Timetable#findOverlapping(Lesson)
+     */
+    public List<ScheduledLesson> findLessonsOverlapping(Lesson lesson) {
+        return timetable.findOverlapping(lesson);
+    }
+
+    /**
+     * Returns the lessons of every person taking place from {@code startDate} to {@code endDate}, ordered by start.
+     *
+     * @see Timetable#findBetween(LocalDate, LocalDate)
+     */
+    public List<ScheduledLesson> findLessonsBetween(LocalDate startDate, LocalDate endDate) {
+        return timetable.findBetween(startDate, endDate);
     }
 
     /**
@@ -134,17 +273,9 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static List<Person> newGroup(Person firstMember) {
+        List<Person> group = new ArrayList<>();
+        group.add(firstMember);
+        return group;
     }
 }
@@ -1,11 +1,46 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<List<Person>> duplicateGroups;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicateGroups = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every group of persons that share an identity.
+     *
+     * @param duplicateGroups Groups of two or more persons with the same identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicateGroups) {
+        super("Operation would result in duplicate persons: " + describe(duplicateGroups));
+        this.duplicateGroups = Collections.unmodifiableList(duplicateGroups);
+    }
+
+    /**
+     * Returns the groups of persons that share an identity, or an empty list if they were not recorded.
+     */
+    public List<List<Person>> getDuplicateGroups() {
+        return duplicateGroups;
+    }
+
+    private static String describe(List<List<Person>> duplicateGroups) {
+        return duplicateGroups.stream()
+                .map(group -> group.stream()
+                        .map(person -> person.getName().fullName)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
     }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has an attribute with the given key containing any of the given values, like the
+ * filter command. Matching persons are looked up exactly in the attribute index of the address book.
+ */
+public class AttributeCondition implements QueryCondition {
+
+    private static final double ESTIMATED_SELECTIVITY = 0.2;
+
+    private final Map<String, Set<String>> attributeFilter;
+    private final AttributeContainsPredicate predicate;
+
+    /**
+     * Creates an {@code AttributeCondition} on the attribute {@code key} matching any of {@code values}.
+     */
+    public AttributeCondition(String key, Set<String> values) {
+        requireAllNonNull(key, values);
+        this.attributeFilter = Map.of(key, Set.copyOf(values));
+        this.predicate = new AttributeContainsPredicate(attributeFilter);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    public int getCost() {
+        return 2;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return ESTIMATED_SELECTIVITY;
+    }
+
+    @Override
+    public Optional<Set<String>> lookUp(AddressBook addressBook) {
+        return Optional.of(addressBook.findIdentityKeysWithAttributes(attributeFilter));
+    }
+
+    @Override
+    public boolean isExactLookUp() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttributeCondition)) {
+            return false;
+        }
+
+        AttributeCondition otherAttributeCondition = (AttributeCondition) other;
+        return attributeFilter.equals(otherAttributeCondition.attributeFilter);
+    }
+
+    @Override
+    public int hashCode() {
+        return attributeFilter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("attributeFilter", attributeFilter).toString();
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has a numeric score for the given subject and assessment that compares to a threshold
+ * in the given way. Persons without the grade, or with a score that is not a number, do not match.
+ */
+public class GradeCondition implements QueryCondition {
+
+    private static final double ESTIMATED_SELECTIVITY = 0.5;
+
+    /**
+     * The ways a score can be compared to the threshold.
+     */
+    public enum Comparison {
+        AT_LEAST(">="), AT_MOST("<="), GREATER_THAN(">"), LESS_THAN("<"), EQUAL_TO("=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        boolean holds(double score, double threshold) {
+            switch (this) {
+            case AT_LEAST:
+                return score >= threshold;
+            case AT_MOST:
+                return score <= threshold;
+            case GREATER_THAN:
+                return score > threshold;
+            case LESS_THAN:
+                return score < threshold;
+            default:
+                return score == threshold;
+            }
+        }
+    }
+
+    private final String subject;
+    private final String assessment;
+    private final Comparison comparison;
+    private final double threshold;
+
+    /**
+     * Creates a {@code GradeCondition} on the score for {@code subject} and {@code assessment}.
+     */
+    public GradeCondition(String subject, String assessment, Comparison comparison, double threshold) {
+        requireAllNonNull(subject, assessment, comparison);
+        this.subject = subject.trim();
+        this.assessment = assessment.trim();
+        this.comparison = comparison;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Grade grade = person.getGradeList().getGrade(subject, assessment);
+        if (grade == null) {
+            return false;
+        }
+        try {
+            return comparison.holds(Double.parseDouble(grade.getScore()), threshold);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    @Override
+    public int getCost() {
+        // A grade lookup and parsing the score
+        return 4;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return ESTIMATED_SELECTIVITY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradeCondition)) {
+            return false;
+        }
+
+        GradeCondition otherGradeCondition = (GradeCondition) other;
+        return subject.equals(otherGradeCondition.subject)
+                && assessment.equals(otherGradeCondition.assessment)
+                && comparison == otherGradeCondition.comparison
+                && Double.compare(threshold, otherGradeCondition.threshold) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, assessment, comparison, threshold);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("grade", subject + "/" + assessment)
+                .add("comparison", comparison.getSymbol() + threshold)
+                .toString();
+    }
+}
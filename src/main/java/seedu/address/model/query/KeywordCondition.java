@@ -0,0 +1,79 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+
+/**
+ * Tests that a {@code Person}'s name, phone or email contains any of the given keywords, like the search command.
+ * Candidates are looked up in the trigram index of the address book.
+ */
+public class KeywordCondition implements QueryCondition {
+
+    private static final double ESTIMATED_SELECTIVITY = 0.1;
+
+    private final List<String> keywords;
+    private final PersonContainsKeywordPredicate predicate;
+
+    /**
+     * Creates a {@code KeywordCondition} matching any of {@code keywords}.
+     */
+    public KeywordCondition(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        this.predicate = new PersonContainsKeywordPredicate(this.keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    public int getCost() {
+        // Three substring searches for every keyword
+        return 1 + 3 * keywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return ESTIMATED_SELECTIVITY;
+    }
+
+    @Override
+    public Optional<Set<String>> lookUp(AddressBook addressBook) {
+        return addressBook.findCandidateIdentityKeysWithKeywords(keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordCondition)) {
+            return false;
+        }
+
+        KeywordCondition otherKeywordCondition = (KeywordCondition) other;
+        return keywords.equals(otherKeywordCondition.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
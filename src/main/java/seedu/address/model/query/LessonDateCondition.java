@@ -0,0 +1,67 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has a lesson taking place on the given date.
+ */
+public class LessonDateCondition implements QueryCondition {
+
+    private static final double ESTIMATED_SELECTIVITY = 0.1;
+
+    private final LocalDate date;
+
+    /**
+     * Creates a {@code LessonDateCondition} matching persons with a lesson on {@code date}.
+     */
+    public LessonDateCondition(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getLessonList().hasLessonOn(date);
+    }
+
+    @Override
+    public int getCost() {
+        // A binary search through the lessons of the person
+        return 4;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return ESTIMATED_SELECTIVITY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonDateCondition)) {
+            return false;
+        }
+
+        LessonDateCondition otherLessonDateCondition = (LessonDateCondition) other;
+        return date.equals(otherLessonDateCondition.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("date", date).toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A query over the persons in the address book, made of groups of conditions.
+ * A person matches the query if it satisfies every condition of at least one group.
+ * Testing a {@code Query} evaluates the conditions in the order they were given; use a {@code QueryPlanner} to
+ * evaluate them in a cheaper order with the help of the address book's indexes.
+ */
+public class Query implements Predicate<Person> {
+
+    private final List<List<QueryCondition>> groups;
+
+    /**
+     * Creates a {@code Query} matching the persons that satisfy all conditions of any of {@code groups}.
+     * Every group must contain at least one condition.
+     */
+    public Query(List<List<QueryCondition>> groups) {
+        requireNonNull(groups);
+        assert !groups.isEmpty() : "A query should have at least one group";
+        List<List<QueryCondition>> copiedGroups = new ArrayList<>();
+        for (List<QueryCondition> group : groups) {
+            assert !group.isEmpty() : "A group of conditions should not be empty";
+            copiedGroups.add(List.copyOf(group));
+        }
+        this.groups = List.copyOf(copiedGroups);
+    }
+
+    /**
+     * Returns the groups of conditions, of which a person must satisfy at least one in full.
+     */
+    public List<List<QueryCondition>> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (List<QueryCondition> group : groups) {
+            if (satisfiesAll(person, group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean satisfiesAll(Person person, List<QueryCondition> conditions) {
+        for (QueryCondition condition : conditions) {
+            if (!condition.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Query)) {
+            return false;
+        }
+
+        Query otherQuery = (Query) other;
+        return groups.equals(otherQuery.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return groups.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("groups", groups).toString();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.query;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A single condition of a {@code Query} on a person, together with the estimates the {@code QueryPlanner} uses to
+ * decide in which order conditions are evaluated.
+ * Conditions must be stateless, as they may be tested from several threads at once.
+ */
+public interface QueryCondition extends Predicate<Person> {
+
+    /**
+     * Returns the relative cost of testing one person, where testing a tag costs 1.
+     */
+    int getCost();
+
+    /**
+     * Returns the estimated fraction of persons that satisfy this condition when it cannot be looked up in an index.
+     */
+    double getEstimatedSelectivity();
+
+    /**
+     * Returns the identity keys of the persons in {@code addressBook} that may satisfy this condition, looked up in
+     * one of its indexes, or an empty {@code Optional} if this condition cannot be looked up.
+     */
+    default Optional<Set<String>> lookUp(AddressBook addressBook) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if every person returned by {@link #lookUp(AddressBook)} is known to satisfy this condition, so
+     * that it does not have to be tested again.
+     */
+    default boolean isExactLookUp() {
+        return false;
+    }
+
+}
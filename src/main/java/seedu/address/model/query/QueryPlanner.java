@@ -0,0 +1,148 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Turns a {@code Query} into a predicate that evaluates its conditions in a cheap order.
+ *
+ * Within a group, every condition that can be looked up in an index of the address book is looked up, and the
+ * results are intersected, starting from the smallest. Conditions with exact look-ups need not be tested again. The
+ * conditions without an index are ordered by their cost divided by the fraction of persons they reject, so that cheap
+ * and selective conditions reject most persons before expensive ones run. Groups are ordered by their cost divided by
+ * the fraction of persons they accept, so that the cheapest group most likely to accept a person is tried first.
+ */
+public class QueryPlanner {
+
+    // Keeps ranks finite for conditions estimated to match every or no person
+    private static final double MIN_FRACTION = 0.01;
+
+    /**
+     * Returns a predicate that matches the same persons of {@code addressBook} as {@code query}, as long as
+     * {@code addressBook} is not modified.
+     */
+    public static Predicate<Person> plan(Query query, AddressBook addressBook) {
+        requireAllNonNull(query, addressBook);
+        int personCount = Math.max(1, addressBook.getPersonList().size());
+        List<PlannedGroup> plannedGroups = new ArrayList<>();
+        for (List<QueryCondition> group : query.getGroups()) {
+            plannedGroups.add(planGroup(group, addressBook, personCount));
+        }
+        plannedGroups.sort(Comparator.comparingDouble(PlannedGroup::getRank));
+        return new QueryPlan(plannedGroups);
+    }
+
+    private static PlannedGroup planGroup(List<QueryCondition> group, AddressBook addressBook, int personCount) {
+        List<Set<String>> lookUps = new ArrayList<>();
+        List<QueryCondition> unindexedConditions = new ArrayList<>();
+        List<QueryCondition> conditionsToVerify = new ArrayList<>();
+        for (QueryCondition condition : group) {
+            Optional<Set<String>> lookUp = condition.lookUp(addressBook);
+            if (lookUp.isEmpty()) {
+                unindexedConditions.add(condition);
+                continue;
+            }
+            lookUps.add(lookUp.get());
+            if (!condition.isExactLookUp()) {
+                conditionsToVerify.add(condition);
+            }
+        }
+
+        Set<String> candidates = intersect(lookUps);
+        double selectivity = candidates == null ? 1 : (double) candidates.size() / personCount;
+        int cost = candidates == null ? 0 : 1;
+        unindexedConditions.sort(Comparator.comparingDouble(condition ->
+                condition.getCost() / Math.max(MIN_FRACTION, 1 - condition.getEstimatedSelectivity())));
+        for (QueryCondition condition : unindexedConditions) {
+            cost += condition.getCost();
+            selectivity *= condition.getEstimatedSelectivity();
+        }
+
+        // Candidates found in an index rarely fail the condition they were looked up for, so verifying goes last.
+        List<QueryCondition> residualConditions = new ArrayList<>(unindexedConditions);
+        for (QueryCondition condition : conditionsToVerify) {
+            cost += condition.getCost();
+            residualConditions.add(condition);
+        }
+        return new PlannedGroup(candidates, residualConditions, cost / Math.max(MIN_FRACTION, selectivity));
+    }
+
+    /**
+     * Returns the intersection of {@code sets}, or null if there are none.
+     */
+    private static Set<String> intersect(List<Set<String>> sets) {
+        if (sets.isEmpty()) {
+            return null;
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * A group of conditions, narrowed down to the persons found in the indexes.
+     */
+    private static class PlannedGroup {
+        // Null if no condition of the group could be looked up
+        private final Set<String> candidates;
+        private final List<QueryCondition> residualConditions;
+        private final double rank;
+
+        PlannedGroup(Set<String> candidates, List<QueryCondition> residualConditions, double rank) {
+            this.candidates = candidates;
+            this.residualConditions = residualConditions;
+            this.rank = rank;
+        }
+
+        double getRank() {
+            return rank;
+        }
+
+        boolean test(Person person) {
+            if (candidates != null && !candidates.contains(person.getIdentityKey())) {
+                return false;
+            }
+            for (QueryCondition condition : residualConditions) {
+                if (!condition.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Matches the persons accepted by any of its planned groups, trying them in order.
+     */
+    private static class QueryPlan implements Predicate<Person> {
+        private final List<PlannedGroup> plannedGroups;
+
+        QueryPlan(List<PlannedGroup> plannedGroups) {
+            this.plannedGroups = plannedGroups;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (PlannedGroup plannedGroup : plannedGroups) {
+                if (plannedGroup.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has the given tag.
+ */
+public class TagCondition implements QueryCondition {
+
+    private static final double ESTIMATED_SELECTIVITY = 0.2;
+
+    private final Tag tag;
+
+    /**
+     * Creates a {@code TagCondition} matching persons tagged with {@code tag}.
+     */
+    public TagCondition(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getTags().contains(tag);
+    }
+
+    @Override
+    public int getCost() {
+        return 1;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return ESTIMATED_SELECTIVITY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagCondition)) {
+            return false;
+        }
+
+        TagCondition otherTagCondition = (TagCondition) other;
+        return tag.equals(otherTagCondition.tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tag", tag).toString();
+    }
+}
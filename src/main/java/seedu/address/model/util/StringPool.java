@@ -0,0 +1,45 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical strings for the values that repeat across students, such as tag names, attribute keys and
+ * values, lesson subjects and grade assessments.
+ * Model classes pass these values through {@link #intern(String)} when they are constructed, so that every copy
+ * loaded from storage or parsed from a command shares one instance. Equal pooled strings are then also the same
+ * object, so comparing them stops at the reference check in {@code String#equals}.
+ * The pool only refers to its strings weakly. A value leaves the pool once no model object uses it any more, so the
+ * strings of deleted students and of replaced or imported address books can still be garbage collected.
+ */
+public class StringPool {
+
+    // Keys and values are the same canonical strings, both weakly referenced.
+    private static final Map<String, WeakReference<String>> POOL = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance of {@code value}, adding {@code value} to the pool if no equal string in use is
+     * pooled yet.
+     */
+    public static synchronized String intern(String value) {
+        requireNonNull(value);
+        WeakReference<String> canonicalReference = POOL.get(value);
+        String canonical = canonicalReference == null ? null : canonicalReference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        POOL.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool, which may still include strings that are no longer used
+     * but have not been garbage collected yet.
+     */
+    public static synchronized int size() {
+        return POOL.size();
+    }
+}
@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Reports a save that was accepted earlier but failed afterwards, such as a write made in the background.
+     * Does nothing by default, as most storages finish writing before {@code saveAddressBook} returns.
+     * @throws IOException if an earlier save failed and the failure has not been reported yet.
+     */
+    default void checkForSaveFailure() throws IOException {
+    }
+
 }
@@ -0,0 +1,387 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a dictionary of the strings that repeat
+ * across persons (tag names, attribute keys and values, lesson times, dates and subjects, grade subjects and
+ * assessments) and then the persons themselves, which refer to those strings by their position in the dictionary.
+ * Strings are stored as UTF-8 bytes after their length, and all counts, lengths and positions are variable-length
+ * integers.
+ * Files that do not start with the magic number are read as JSON, so a JSON data file is converted on the next save.
+ * Like {@link JsonAddressBookStorage}, files are replaced atomically on save and their previous versions are kept as
+ * numbered backups that are read instead if the file itself is missing or cannot be loaded.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x43525042; // "CRPB"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_INVALID_DICTIONARY_REFERENCE = "Invalid string reference in binary data file";
+    public static final String MESSAGE_INVALID_LESSON = "Invalid lesson time or date in binary data file";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final DataFileBackups backups;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, DataFileBackups.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for {@code filePath}.
+     *
+     * @param backupCount how many previous versions of a file to keep when it is saved over.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backups = new DataFileBackups(backupCount);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file that is not in the binary format is read as JSON instead.
+     * If the file is missing or cannot be loaded, its newest backup that can be loaded is returned instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage and from every backup failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath) && !backups.hasBackup(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(backups.read(filePath, BinaryAddressBookStorage::readPersons));
+    }
+
+    /**
+     * Returns the persons in the existing file at {@code filePath}, ignoring its backups.
+     *
+     * @throws DataLoadingException if the file could not be read or holds invalid data.
+     */
+    private static AddressBook readPersons(Path filePath) throws DataLoadingException {
+        if (!isBinaryFile(filePath)) {
+            logger.info("File " + filePath + " is not in the binary format. Reading it as JSON.");
+            return JsonAddressBookStorage.readPersons(filePath);
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            in.readInt(); // magic number, checked by isBinaryFile
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            List<String> dictionary = new ArrayList<>();
+            for (int i = readVarInt(in); i > 0; i--) {
+                dictionary.add(readString(in));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            for (int i = readVarInt(in); i > 0; i--) {
+                Person person = toModelType(readPerson(in, dictionary));
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns true if the existing file at {@code filePath} starts with the magic number of the binary format.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws DataLoadingException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC_NUMBER;
+        } catch (EOFException eofe) {
+            return false;
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The replaced version of the file is renamed to its first backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        StringDictionary dictionary = new StringDictionary();
+        for (Person person : persons) {
+            dictionary.addStringsOf(person);
+        }
+
+        FileUtil.writeToFileAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            writeVarInt(out, dictionary.strings.size());
+            for (String string : dictionary.strings) {
+                writeString(out, string);
+            }
+            writeVarInt(out, persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, dictionary);
+            }
+            out.flush();
+        }, backups::keep);
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, StringDictionary dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getRemark().value);
+
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            dictionary.writeReference(out, tag.tagName);
+        }
+
+        writeVarInt(out, person.getAttributes().size());
+        for (Attribute attribute : person.getAttributes()) {
+            dictionary.writeReference(out, attribute.getKey());
+            writeVarInt(out, attribute.getValues().size());
+            for (String value : attribute.getValues()) {
+                dictionary.writeReference(out, value);
+            }
+        }
+
+        List<Lesson> lessons = person.getLessonList().getLessons();
+        writeVarInt(out, lessons.size());
+        for (Lesson lesson : lessons) {
+            dictionary.writeReference(out, lesson.getStart().toString());
+            dictionary.writeReference(out, lesson.getEnd().toString());
+            dictionary.writeReference(out, lesson.getDate().toString());
+            dictionary.writeReference(out, lesson.getEndDate().toString());
+            dictionary.writeReference(out, lesson.getSub());
+            out.writeBoolean(lesson.isPresent());
+        }
+
+        writeVarInt(out, person.getGradeList().size());
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            dictionary.writeReference(out, grade.getSubject());
+            dictionary.writeReference(out, grade.getAssessment());
+            writeString(out, grade.getScore());
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutputStream, Person, StringDictionary)}.
+     */
+    private static JsonAdaptedPerson readPerson(DataInputStream in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        String remark = readString(in);
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            tags.add(new JsonAdaptedTag(readReference(in, dictionary)));
+        }
+
+        List<JsonAdaptedAttribute> attributes = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            String key = readReference(in, dictionary);
+            List<String> values = new ArrayList<>();
+            for (int j = readVarInt(in); j > 0; j--) {
+                values.add(readReference(in, dictionary));
+            }
+            attributes.add(new JsonAdaptedAttribute(key, values));
+        }
+
+        List<JsonAdaptedLesson> lessons = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            String start = readReference(in, dictionary);
+            String end = readReference(in, dictionary);
+            String date = readReference(in, dictionary);
+            String endDate = readReference(in, dictionary);
+            String sub = readReference(in, dictionary);
+            lessons.add(new JsonAdaptedLesson(start, end, date, endDate, sub, in.readBoolean()));
+        }
+
+        List<JsonAdaptedGrade> grades = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            String subject = readReference(in, dictionary);
+            String assessment = readReference(in, dictionary);
+            grades.add(new JsonAdaptedGrade(subject, assessment, readString(in)));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, address, remark, tags, attributes, lessons, grades);
+    }
+
+    /**
+     * Converts {@code person} into the model's {@code Person}, validating it like a person read from JSON.
+     */
+    private static Person toModelType(JsonAdaptedPerson person) throws IllegalValueException {
+        try {
+            return person.toModelType();
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_INVALID_LESSON);
+        }
+    }
+
+    private static String readReference(DataInputStream in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        int index = readVarInt(in);
+        if (index >= dictionary.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_DICTIONARY_REFERENCE);
+        }
+        return dictionary.get(index);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = readVarInt(in);
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in 7-bit groups, least significant first, using the high bit of each
+     * byte to mark that more groups follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in binary data file");
+    }
+
+    /**
+     * The strings shared between persons in a file, each stored once and referred to by its position.
+     */
+    private static class StringDictionary {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        void addStringsOf(Person person) {
+            person.getTags().forEach(tag -> add(tag.tagName));
+            for (Attribute attribute : person.getAttributes()) {
+                add(attribute.getKey());
+                attribute.getValues().forEach(this::add);
+            }
+            for (Lesson lesson : person.getLessonList().getLessons()) {
+                add(lesson.getStart().toString());
+                add(lesson.getEnd().toString());
+                add(lesson.getDate().toString());
+                add(lesson.getEndDate().toString());
+                add(lesson.getSub());
+            }
+            for (Grade grade : person.getGradeList().getGrades().values()) {
+                add(grade.getSubject());
+                add(grade.getAssessment());
+            }
+        }
+
+        private void add(String string) {
+            if (indices.putIfAbsent(string, strings.size()) == null) {
+                strings.add(string);
+            }
+        }
+
+        void writeReference(DataOutputStream out, String string) throws IOException {
+            writeVarInt(out, indices.get(string));
+        }
+    }
+
+}
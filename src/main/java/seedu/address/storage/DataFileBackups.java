@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The numbered backups kept of a data file by the address book storages.
+ * When a file is saved over, the replaced file becomes its newest backup and the older backups move one place
+ * older, dropping the oldest. When a file is missing or cannot be loaded, its newest backup that can be loaded is
+ * read instead.
+ */
+class DataFileBackups {
+
+    static final int DEFAULT_BACKUP_COUNT = 3;
+    static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileBackups.class);
+
+    private final int backupCount;
+
+    /**
+     * Creates a {@code DataFileBackups} that keeps {@code backupCount} previous versions of a file.
+     * No backups are kept or read if {@code backupCount} is not positive.
+     */
+    DataFileBackups(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns true if a backup of {@code filePath} exists.
+     */
+    boolean hasBackup(Path filePath) {
+        requireNonNull(filePath);
+        for (int i = 1; i <= backupCount; i++) {
+            if (Files.exists(getBackupFilePath(filePath, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the data in the file at {@code filePath} as read by {@code reader}, or the data in its newest backup
+     * that can be read if the file itself is missing or cannot be read.
+     *
+     * @throws DataLoadingException if neither the file nor any of its backups could be read.
+     */
+    ReadOnlyAddressBook read(Path filePath, DataFileReader reader) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        DataLoadingException failure;
+        if (Files.exists(filePath)) {
+            try {
+                return reader.read(filePath);
+            } catch (DataLoadingException dle) {
+                failure = dle;
+            }
+        } else {
+            failure = new DataLoadingException(new NoSuchFileException(filePath.toString()));
+        }
+
+        for (int i = 1; i <= backupCount; i++) {
+            Path backupFilePath = getBackupFilePath(filePath, i);
+            if (!Files.exists(backupFilePath)) {
+                continue;
+            }
+            try {
+                ReadOnlyAddressBook addressBook = reader.read(backupFilePath);
+                logger.warning("Data file " + filePath + " could not be loaded. Using backup " + backupFilePath
+                        + " instead.");
+                return addressBook;
+            } catch (DataLoadingException backupDle) {
+                logger.warning("Backup " + backupFilePath + " could not be loaded either.");
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Keeps the existing file at {@code filePath} as its newest backup, leaving the file itself in place.
+     * The backups are renamed one place older, up to the first free place or else dropping the oldest, and the file
+     * is then hard-linked to its first backup, or copied where the file system has no hard links.
+     * Does nothing if no backups are kept.
+     * Meant to be called by {@link FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter,
+     * FileUtil.ReplacedFileKeeper)} once the new content of the file is on disk, so that a failed save leaves the
+     * backups as they were.
+     */
+    void keep(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (backupCount <= 0) {
+            return;
+        }
+
+        int freeGeneration = 1;
+        while (freeGeneration < backupCount && Files.exists(getBackupFilePath(filePath, freeGeneration))) {
+            freeGeneration++;
+        }
+        for (int i = freeGeneration - 1; i >= 1; i--) {
+            Files.move(getBackupFilePath(filePath, i), getBackupFilePath(filePath, i + 1), REPLACE_EXISTING);
+        }
+
+        Path newestBackupFilePath = getBackupFilePath(filePath, 1);
+        Files.deleteIfExists(newestBackupFilePath);
+        try {
+            Files.createLink(newestBackupFilePath, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestBackupFilePath, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th newest backup of {@code filePath}, counting from 1.
+     */
+    static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Reads the address book in a single data file.
+     */
+    @FunctionalInterface
+    interface DataFileReader {
+        /**
+         * Returns the data in the existing file at {@code filePath}.
+         *
+         * @throws DataLoadingException if the file could not be read or holds invalid data.
+         */
+        ReadOnlyAddressBook read(Path filePath) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@link AddressBookStorage} that records changes in an append-only journal beside the data file instead of
+ * rewriting the data file on every save.
+ *
+ * The data file written by the wrapped storage acts as a snapshot. Each save compares the persons with those last
+ * saved and appends only the added, replaced and deleted persons to the journal, as one line per save.
+ * Reading replays the journal on top of the snapshot. Once the journal holds more than a threshold of changes, the
+ * next save compacts it by writing a fresh snapshot and starting an empty journal.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // The persons that the snapshot and journal on disk add up to, or null if the journal cannot be appended to.
+    private List<Person> journaledPersons;
+    private int journalEntryCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts once its journal holds more than
+     * {@code compactionThreshold} changes.
+     */
+    JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the file path of the journal.
+     */
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If {@code filePath} is the data file of this storage, the journal is replayed on top of it. A journal that was
+     * started on a different snapshot is ignored, and so is a last line that was only partly written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+        journaledPersons = null;
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        int entryCount;
+        AddressBook addressBook = new AddressBook();
+        try {
+            entryCount = replayJournal(filePath, persons);
+            addressBook.setPersons(persons);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (entryCount >= 0) {
+            journaledPersons = persons;
+            journalEntryCount = entryCount;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the changes in the journal to {@code persons}, the persons read from the snapshot at
+     * {@code snapshotPath}.
+     *
+     * @return the number of changes applied, or -1 if the journal cannot be appended to as it is.
+     */
+    private int replayJournal(Path snapshotPath, List<Person> persons) throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return -1;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null
+                    || !JsonUtil.fromJsonString(headerLine, JsonJournalHeader.class).describes(snapshotPath)) {
+                logger.info("Ignoring journal " + journalFilePath + " as it was not started on " + snapshotPath);
+                return -1;
+            }
+
+            int entryCount = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry[] entries;
+                try {
+                    entries = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry[].class);
+                } catch (JsonProcessingException jpe) {
+                    if (nextLine != null) {
+                        throw jpe;
+                    }
+                    // Only the last save can have been interrupted half-way through its line.
+                    logger.warning("Ignoring incomplete last line of journal " + journalFilePath);
+                    return -1;
+                }
+                for (JsonAdaptedJournalEntry entry : entries) {
+                    entry.applyTo(persons);
+                }
+                entryCount += entries.length;
+                line = nextLine;
+            }
+            return entryCount;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code filePath} is the data file of this storage, only the changes since the last save are written,
+     * unless the journal is due for compaction. Other files are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (journaledPersons == null) {
+            compact(addressBook);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<JsonAdaptedJournalEntry> changes = getChanges(journaledPersons, persons);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (journalEntryCount + changes.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        // A failed append may leave part of a line behind, so the journal is not trusted again until compacted.
+        journaledPersons = null;
+        appendToJournal(JsonUtil.toCompactJsonString(changes) + LINE_SEPARATOR);
+        journaledPersons = new ArrayList<>(persons);
+        journalEntryCount += changes.size();
+    }
+
+    /**
+     * Appends {@code text} to the journal and forces it to disk before returning, so that a save that has returned
+     * is not lost if the machine stops before the operating system writes its cache back.
+     */
+    private void appendToJournal(String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal on it.
+     * The snapshot is written first, so an interruption leaves behind either the old snapshot with its journal or
+     * the new snapshot with a journal that no longer matches it and is ignored.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path snapshotPath = getAddressBookFilePath();
+        journaledPersons = null;
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        FileUtil.writeToFile(journalFilePath,
+                JsonUtil.toCompactJsonString(JsonJournalHeader.of(snapshotPath)) + LINE_SEPARATOR);
+        journaledPersons = new ArrayList<>(addressBook.getPersonList());
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code oldPersons} into {@code newPersons}.
+     * Unchanged persons at the start and end of the lists are skipped, so a single added, edited or deleted person
+     * produces a single entry.
+     */
+    private static List<JsonAdaptedJournalEntry> getChanges(List<Person> oldPersons, List<Person> newPersons) {
+        int sharedLength = Math.min(oldPersons.size(), newPersons.size());
+        int prefixLength = 0;
+        while (prefixLength < sharedLength && oldPersons.get(prefixLength).equals(newPersons.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < sharedLength - prefixLength
+                && oldPersons.get(oldPersons.size() - 1 - suffixLength)
+                        .equals(newPersons.get(newPersons.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        int oldEnd = oldPersons.size() - suffixLength;
+        int newEnd = newPersons.size() - suffixLength;
+        List<JsonAdaptedJournalEntry> changes = new ArrayList<>();
+        for (int i = prefixLength; i < Math.min(oldEnd, newEnd); i++) {
+            if (!oldPersons.get(i).equals(newPersons.get(i))) {
+                changes.add(JsonAdaptedJournalEntry.set(i, newPersons.get(i)));
+            }
+        }
+        for (int i = oldEnd; i < newEnd; i++) {
+            changes.add(JsonAdaptedJournalEntry.add(i, newPersons.get(i)));
+        }
+        for (int i = newEnd; i < oldEnd; i++) {
+            changes.add(JsonAdaptedJournalEntry.delete(newEnd));
+        }
+        return changes;
+    }
+
+}
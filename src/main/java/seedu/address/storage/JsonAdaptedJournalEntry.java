@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * Each entry adds, replaces or deletes the person at {@code index} of the person list.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "delete";
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry index %d is out of range";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry for operation %s is missing its person";
+
+    private final String operation;
+    private final int index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that deletes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry delete(int index) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, index, null);
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        int upperBound = OPERATION_ADD.equals(operation) ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+
+        switch (operation == null ? "" : operation) {
+        case OPERATION_ADD:
+            persons.add(index, toPerson());
+            break;
+        case OPERATION_SET:
+            persons.set(index, toPerson());
+            break;
+        case OPERATION_DELETE:
+            persons.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, operation));
+        }
+        return person.toModelType();
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,19 +13,41 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Files are replaced atomically on save, and the previous versions of each file are kept, by hard-linking rather
+ * than copying them, as numbered backups that are read instead if the file itself is missing or cannot be loaded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final DataFileBackups backups;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DataFileBackups.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for readability. Compact files are faster to write.
+     * @param backupCount how many previous versions of a file to keep when it is saved over.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int backupCount) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.backups = new DataFileBackups(backupCount);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,25 +61,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons are streamed from the file and converted into the model one at a time, so the file contents and the
+     * intermediate {@link JsonSerializableAddressBook} are never held in memory as a whole.
+     * If the file is missing or cannot be loaded, its newest backup that can be loaded is returned instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from storage and from every backup failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath) && !backups.hasBackup(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        return Optional.of(backups.read(filePath, JsonAddressBookStorage::readPersons));
+    }
 
+    /**
+     * Returns the persons streamed from the existing JSON file at {@code filePath}, ignoring its backups.
+     *
+     * @throws DataLoadingException if the file could not be read or holds invalid data.
+     */
+    static AddressBook readPersons(Path filePath) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonUtil.readJsonArrayField(filePath, JsonSerializableAddressBook.PERSONS_FIELD, JsonAdaptedPerson.class,
+                    jsonAdaptedPerson -> addPerson(addressBook, jsonAdaptedPerson));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the person is invalid or already exists in {@code addressBook}.
+     */
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
     }
 
     @Override
@@ -66,6 +120,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are adapted and streamed to a temporary file one at a time, which then replaces the file atomically.
+     * The replaced version of the file is kept as its first backup once the new version is on disk.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +129,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> JsonUtil.writeJsonArrayField(out,
+                JsonSerializableAddressBook.PERSONS_FIELD, addressBook.getPersonList(), JsonAdaptedPerson::new,
+                isPrettyPrinted), backups::keep);
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th newest backup of {@code filePath}, counting from 1.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        return DataFileBackups.getBackupFilePath(filePath, generation);
     }
 
 }
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of the address book journal.
+ * Records which snapshot file the journal was started on, so that a journal left behind by an interrupted
+ * compaction is not replayed on top of the newer snapshot.
+ */
+class JsonJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+            @JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the header describing the snapshot currently at {@code snapshotPath}.
+     */
+    public static JsonJournalHeader of(Path snapshotPath) throws IOException {
+        return new JsonJournalHeader(Files.size(snapshotPath), checksumOf(snapshotPath));
+    }
+
+    /**
+     * Returns true if the snapshot at {@code snapshotPath} is the one this journal was started on.
+     */
+    public boolean describes(Path snapshotPath) throws IOException {
+        return Files.exists(snapshotPath)
+                && snapshotSize == Files.size(snapshotPath)
+                && snapshotChecksum == checksumOf(snapshotPath);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code path}.
+     */
+    private static long checksumOf(Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(path), crc)) {
+            while (in.read(buffer) != -1) {
+                // Reading updates the checksum.
+            }
+        }
+        return crc.getValue();
+    }
+
+}
@@ -29,4 +29,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the AddressBook data in a JSON or binary file chosen by the user, such as one written by
+     * {@link #exportAddressBook(ReadOnlyAddressBook, Path)}. The backups of the file are never read instead.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if loading the data from the file failed.
+     */
+    Optional<ReadOnlyAddressBook> importAddressBook(Path filePath) throws DataLoadingException;
+
+    /**
+     * Writes {@code addressBook} to a file chosen by the user, as JSON if its name ends in
+     * {@link StorageManager#JSON_FILE_EXTENSION} and in the compact binary format otherwise.
+     *
+     * @throws IOException if {@code filePath} is the data file, or there was any problem writing to the file.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -16,6 +18,9 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String MESSAGE_EXPORT_TO_DATA_FILE = "This is the data file, which is saved automatically";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
@@ -75,4 +80,49 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkForSaveFailure() throws IOException {
+        addressBookStorage.checkForSaveFailure();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The data file itself is read through the address book storage, so that queued saves and the journal, if any,
+     * are taken into account.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> importAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        logger.fine("Attempting to import data from file: " + filePath);
+        if (isAddressBookFile(filePath)) {
+            return addressBookStorage.readAddressBook();
+        }
+        // Binary storage also reads JSON files.
+        return new BinaryAddressBookStorage(filePath, 0).readAddressBook();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The data file is saved on its own after every change, in the format and with the journal, if any, of the
+     * address book storage, so it cannot be exported to.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        logger.fine("Attempting to export data to file: " + filePath);
+        if (isAddressBookFile(filePath)) {
+            throw new IOException(MESSAGE_EXPORT_TO_DATA_FILE);
+        }
+        AddressBookStorage exportStorage = filePath.toString().endsWith(JSON_FILE_EXTENSION)
+                ? new JsonAddressBookStorage(filePath, true, 0)
+                : new BinaryAddressBookStorage(filePath, 0);
+        exportStorage.saveAddressBook(addressBook);
+    }
+
+    private boolean isAddressBookFile(Path filePath) {
+        return filePath.toAbsolutePath().normalize()
+                .equals(addressBookStorage.getAddressBookFilePath().toAbsolutePath().normalize());
+    }
+
 }
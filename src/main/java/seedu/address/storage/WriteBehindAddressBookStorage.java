@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@link AddressBookStorage} that hands saves to a background thread so that callers do not wait for the file
+ * to be written.
+ *
+ * Each save takes a snapshot of the (immutable) persons and queues it. Only the most recent snapshot is kept, so a
+ * burst of saves made while a write is in progress collapses into a single write of the latest data.
+ * A background write that fails is reported by the next call to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}
+ * or {@link #checkForSaveFailure()}, and retried then or by {@link #flush()} unless a newer snapshot has superseded
+ * it.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final ExecutorService writer;
+
+    private final Object lock = new Object();
+    // All fields below are guarded by lock.
+    private PendingSave pendingSave;
+    private boolean isDrainScheduled;
+    private PendingSave failedSave;
+    private IOException unreportedFailure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code delegate} on a background thread.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate) {
+        this(delegate, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that runs writes through {@code delegate} on {@code writer}.
+     * {@code writer} must run tasks one at a time.
+     */
+    WriteBehindAddressBookStorage(AddressBookStorage delegate, ExecutorService writer) {
+        requireAllNonNull(delegate, writer);
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Waits for queued saves to be written before reading, so that the data read is never older than the data saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flush();
+        } catch (IOException ioe) {
+            logger.warning("Pending save failed before reading " + filePath + ": " + ioe);
+        }
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath} and returns immediately.
+     *
+     * @throws IOException if a previously queued save failed in the background. The new snapshot is still queued.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        PendingSave save = new PendingSave(new Snapshot(addressBook), filePath);
+        IOException failure;
+        synchronized (lock) {
+            failure = unreportedFailure;
+            unreportedFailure = null;
+            pendingSave = save;
+            failedSave = null;
+            if (!isDrainScheduled) {
+                isDrainScheduled = true;
+                writer.execute(this::drainPendingSaves);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Throws the failure of a background save that has not been reported yet, and queues the failed save again.
+     *
+     * @throws IOException if a previously queued save failed in the background.
+     */
+    @Override
+    public void checkForSaveFailure() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            failure = unreportedFailure;
+            unreportedFailure = null;
+            if (failure != null && failedSave != null && pendingSave == null) {
+                pendingSave = failedSave;
+                failedSave = null;
+                if (!isDrainScheduled) {
+                    isDrainScheduled = true;
+                    writer.execute(this::drainPendingSaves);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until every queued save has been written, retrying the last save if it failed in the background.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    public void flush() throws IOException {
+        PendingSave saveToRetry;
+        synchronized (lock) {
+            while (isDrainScheduled) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+                }
+            }
+            saveToRetry = failedSave;
+            failedSave = null;
+            unreportedFailure = null;
+        }
+
+        if (saveToRetry != null) {
+            delegate.saveAddressBook(saveToRetry.addressBook, saveToRetry.filePath);
+        }
+    }
+
+    /**
+     * Flushes queued saves and stops the background writer. No saves may be made after this call.
+     *
+     * @throws IOException if the queued data could not be written.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Writes queued snapshots until none are left. Runs on the background writer thread.
+     */
+    private void drainPendingSaves() {
+        while (true) {
+            PendingSave save;
+            synchronized (lock) {
+                save = pendingSave;
+                pendingSave = null;
+                if (save == null) {
+                    isDrainScheduled = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                delegate.saveAddressBook(save.addressBook, save.filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Background save to " + save.filePath + " failed: " + e);
+                synchronized (lock) {
+                    unreportedFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    if (pendingSave == null) {
+                        failedSave = save;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The persons of an address book at the time it was saved. Persons are immutable, so copying the list is enough
+     * and none of the indexes of an {@code AddressBook} are built.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(source.getPersonList())));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+    /**
+     * A snapshot waiting to be written to a file.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,52 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileCreated() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes());
+            throw new IOException("interrupted");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_withReplacedFileKeeper_oldContentKeptWhileFileInPlace() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path replacedFile = testFolder.resolve("file.txt.old");
+        FileUtil.writeToFile(file, "old content");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new content".getBytes()), keptFile -> {
+            assertEquals(file, keptFile);
+            Files.copy(keptFile, replacedFile);
+        });
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals("old content", FileUtil.readFromFile(replacedFile));
+    }
+
+    @Test
+    public void writeToFileAtomically_withReplacedFileKeeperWriterFails_keeperNotCalled() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            throw new IOException("interrupted");
+        }, keptFile -> fail("Replaced file kept before the new content was written")));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+    }
+
 }
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeMapTest {
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        PersistentTreeMap<String, Integer> map = PersistentTreeMap.empty();
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        assertThrows(NullPointerException.class, () -> map.put("a", null));
+    }
+
+    @Test
+    public void put_newAndExistingKeys_originalUnchanged() {
+        PersistentTreeMap<String, Integer> empty = PersistentTreeMap.empty();
+        PersistentTreeMap<String, Integer> one = empty.put("b", 1);
+        PersistentTreeMap<String, Integer> two = one.put("a", 2);
+        PersistentTreeMap<String, Integer> replaced = two.put("b", 3);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Map.of("b", 1), one.toMap());
+        assertEquals(Map.of("a", 2, "b", 1), two.toMap());
+        assertEquals(Map.of("a", 2, "b", 3), replaced.toMap());
+        assertEquals(List.of(2, 3), replaced.values());
+
+        // same value -> same map
+        assertSame(two, two.put("a", 2));
+    }
+
+    @Test
+    public void remove_presentAndAbsentKeys() {
+        PersistentTreeMap<String, Integer> map = PersistentTreeMap.<String, Integer>empty().put("a", 1).put("b", 2);
+
+        assertEquals(Map.of("b", 2), map.remove("a").toMap());
+        assertSame(map, map.remove("c"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void putAndRemove_manyKeys_matchesTreeMap() {
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 200; i++) {
+            int key = (i * 37) % 101;
+            map = map.put(key, i);
+            expected.put(key, i);
+        }
+        for (int key = 0; key < 101; key += 3) {
+            map = map.remove(key);
+            expected.remove(key);
+        }
+
+        assertEquals(expected, map.toMap());
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 101; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertNull(map.get(0));
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    public void equals() {
+        PersistentTreeMap<String, Integer> map = PersistentTreeMap.of(Map.of("a", 1, "b", 2));
+
+        // same values, built in another order -> returns true
+        PersistentTreeMap<String, Integer> mapCopy = PersistentTreeMap.<String, Integer>empty().put("b", 2).put("a", 1);
+        assertTrue(map.equals(mapCopy));
+        assertEquals(map.hashCode(), mapCopy.hashCode());
+        assertEquals(Map.of("a", 1, "b", 2).hashCode(), map.hashCode());
+
+        // same object -> returns true
+        assertTrue(map.equals(map));
+
+        // null -> returns false
+        assertFalse(map.equals(null));
+
+        // different types -> returns false
+        assertFalse(map.equals(Map.of("a", 1, "b", 2)));
+
+        // different values -> returns false
+        assertFalse(map.equals(map.put("a", 3)));
+    }
+}
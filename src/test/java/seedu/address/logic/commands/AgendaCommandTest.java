@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AgendaCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 15);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 9, 21);
+
+    private final Lesson aliceMonday = new Lesson("14:00", "15:00", "2025-09-15", "Math");
+    private final Lesson bensonTuesday = new Lesson("09:00", "10:00", "2025-09-16", "Science");
+    private final Lesson aliceNextMonday = new Lesson("14:00", "15:00", "2025-09-22", "Math");
+
+    @Test
+    public void execute_lessonsInRange_listedInOrder() {
+        Person alice = new PersonBuilder(ALICE).withLesson(aliceMonday).withLesson(aliceNextMonday).build();
+        Person benson = new PersonBuilder(BENSON).withLesson(bensonTuesday).build();
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(benson).build(),
+                new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 2, MONDAY, SUNDAY)
+                + "\n" + aliceMonday.getLessonDetails() + " with " + alice.getName()
+                + "\n" + bensonTuesday.getLessonDetails() + " with " + benson.getName();
+        assertCommandSuccess(new AgendaCommand(MONDAY, SUNDAY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noLessonsInRange_noLessonsMessage() {
+        Person alice = new PersonBuilder(ALICE).withLesson(aliceNextMonday).build();
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(alice).build(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_NO_LESSONS, MONDAY, SUNDAY);
+        assertCommandSuccess(new AgendaCommand(MONDAY, SUNDAY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand weekCommand = new AgendaCommand(MONDAY, SUNDAY);
+        AgendaCommand dayCommand = new AgendaCommand(MONDAY, MONDAY);
+
+        // same object -> returns true
+        assertTrue(weekCommand.equals(weekCommand));
+
+        // same values -> returns true
+        assertTrue(weekCommand.equals(new AgendaCommand(MONDAY, SUNDAY)));
+
+        // different types -> returns false
+        assertFalse(weekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(weekCommand.equals(null));
+
+        // different dates -> returns false
+        assertFalse(weekCommand.equals(dayCommand));
+    }
+}
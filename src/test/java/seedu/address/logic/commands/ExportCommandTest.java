@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_binaryFile_success() throws Exception {
+        Path filePath = testFolder.resolve("export.bin");
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath);
+
+        assertExportSuccess(filePath, expectedMessage);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath);
+
+        assertExportSuccess(filePath, expectedMessage);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_dataFile_throwsCommandException() throws Exception {
+        JournaledAddressBookStorage journaledStorage =
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(testFolder.resolve("data.json")));
+        storage = new StorageManager(journaledStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        Path filePath = journaledStorage.getAddressBookFilePath();
+        String expectedMessage = String.format(ExportCommand.MESSAGE_EXPORT_FAILED, filePath,
+                StorageManager.MESSAGE_EXPORT_TO_DATA_FILE);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new ExportCommand(filePath)
+                .execute(model, storage));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        assertCommandFailure(new ExportCommand(testFolder.resolve("export.bin")), model,
+                StorageCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.bin"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.bin"));
+
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.bin"))));
+        assertFalse(exportFirstCommand.equals(1));
+        assertFalse(exportFirstCommand.equals(null));
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+    }
+
+    private void assertExportSuccess(Path filePath, String expectedMessage) throws Exception {
+        CommandResult result = new ExportCommand(filePath).execute(model, storage);
+        assertEquals(new CommandResult(expectedMessage), result);
+        assertEquals(expectedModel, model);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_binaryFile_success() throws Exception {
+        Path filePath = testFolder.resolve("import.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertImportSuccess(filePath);
+    }
+
+    @Test
+    public void execute_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("import.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertImportSuccess(filePath);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath), () ->
+                new ImportCommand(filePath).execute(new ModelManager(), storage));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.bin");
+        FileUtil.writeToFile(filePath, "Not a data file!");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_IMPORT_FAILED, filePath), () ->
+                new ImportCommand(filePath).execute(new ModelManager(), storage));
+    }
+
+    @Test
+    public void execute_invalidFileWithValidBackup_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("backedUp.json");
+        JsonAddressBookStorage fileStorage = new JsonAddressBookStorage(filePath);
+        fileStorage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        fileStorage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(filePath, "Not a data file!");
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_IMPORT_FAILED, filePath), () ->
+                new ImportCommand(filePath).execute(new ModelManager(), storage));
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        assertCommandFailure(new ImportCommand(testFolder.resolve("import.bin")), new ModelManager(),
+                StorageCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.bin"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.bin"));
+
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.bin"))));
+        assertFalse(importFirstCommand.equals(1));
+        assertFalse(importFirstCommand.equals(null));
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private void assertImportSuccess(Path filePath) throws Exception {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.setAddressBook(getTypicalAddressBook());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS,
+                getTypicalAddressBook().getPersonList().size(), filePath);
+
+        CommandResult result = new ImportCommand(filePath).execute(model, storage);
+        assertEquals(new CommandResult(expectedMessage), result);
+        assertEquals(expectedModel, model);
+    }
+}
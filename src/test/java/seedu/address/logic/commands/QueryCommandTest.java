@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        Query firstQuery = new Query(List.of(List.of(new TagCondition(new Tag("friends")))));
+        Query secondQuery = new Query(List.of(List.of(new TagCondition(new Tag("owesMoney")))));
+        QueryCommand firstCommand = new QueryCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(firstQuery)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(secondQuery)));
+    }
+
+    @Test
+    public void execute_conditionsInTwoGroups_matchingPersonsFound() {
+        // friends named Meier, or anyone named Alice
+        Query query = new Query(List.of(
+                List.of(new TagCondition(new Tag("friends")), new KeywordCondition(List.of("meier"))),
+                List.of(new KeywordCondition(List.of("alice")))));
+        QueryCommand command = new QueryCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+
+        assertCommandSuccess(command, model, String.format(QueryCommand.MESSAGE_SUCCESS, 3), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new Query(List.of(List.of(new TagCondition(new Tag("friends")))));
+        QueryCommand command = new QueryCommand(query);
+        assertEquals(QueryCommand.class.getCanonicalName() + "{query=" + query + "}", command.toString());
+    }
+
+}
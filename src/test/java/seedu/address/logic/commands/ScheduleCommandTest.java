@@ -161,6 +161,39 @@ public class ScheduleCommandTest {
         assertCommandFailure(scheduleCommand, model, ScheduleCommand.MESSAGE_OVERLAPPING_LESSON);
     }
 
+    @Test
+    public void execute_lessonClashesWithOtherStudent_failure() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Lesson existingLesson = new Lesson(VALID_START_TIME, VALID_END_TIME, VALID_DATE, VALID_SUBJECT);
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson).withLesson(existingLesson).build());
+
+        Lesson clashingLesson =
+                new Lesson(OVERLAPPING_START_TIME, OVERLAPPING_END_TIME, VALID_DATE, OVERLAPPING_SUBJECT);
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, clashingLesson);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_CLASHING_LESSON, secondPerson.getName(),
+                existingLesson.getLessonDetails());
+        assertCommandFailure(scheduleCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_sameClassAsOtherStudent_success() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Lesson classLesson = new Lesson(VALID_START_TIME, VALID_END_TIME, VALID_DATE, VALID_SUBJECT);
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson).withLesson(classLesson).build());
+
+        Person editedPerson = new PersonBuilder(firstPerson).withLesson(classLesson).build();
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, classLesson);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_ADD_LESSON_SUCCESS, format(editedPerson));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_filteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -177,6 +210,7 @@ public class ScheduleCommandTest {
         String expectedMessage = String.format(ScheduleCommand.MESSAGE_ADD_LESSON_SUCCESS, format(editedPerson));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(firstPerson, editedPerson);
 
         assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
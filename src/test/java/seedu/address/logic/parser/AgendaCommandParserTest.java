@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+
+public class AgendaCommandParserTest {
+
+    private final AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_startAndEndDate_success() {
+        assertParseSuccess(parser, " date/ 2025-09-15 date2/ 2025-09-17",
+                new AgendaCommand(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 17)));
+        assertParseSuccess(parser, " date/2025-09-15 date2/2025-09-15",
+                new AgendaCommand(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 15)));
+    }
+
+    @Test
+    public void parse_startDateOnly_weekFromStartDate() {
+        assertParseSuccess(parser, " date/2025-09-15",
+                new AgendaCommand(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 21)));
+    }
+
+    @Test
+    public void parse_missingStartDateOrPreamble_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " date2/2025-09-15", expectedMessage);
+        assertParseFailure(parser, " 1 date/2025-09-15", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " date/15-09-2025", ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, " date/2025-02-30", ScheduleCommandParser.MESSAGE_INVALID_DATE_VALUE);
+        assertParseFailure(parser, " date/2025-09-15 date2/2025-9-16",
+                ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_endBeforeStart_throwsParseException() {
+        assertParseFailure(parser, " date/2025-09-15 date2/2025-09-14", AgendaCommandParser.MESSAGE_END_BEFORE_START);
+    }
+}
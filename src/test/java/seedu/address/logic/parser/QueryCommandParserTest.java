@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.query.AttributeCondition;
+import seedu.address.model.query.GradeCondition;
+import seedu.address.model.query.GradeCondition.Comparison;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.LessonDateCondition;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyGroup_throwsParseException() {
+        assertParseFailure(parser, " t/Sec3 |", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " alice t/Sec3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidGradeCondition_throwsParseException() {
+        assertParseFailure(parser, " sub/Math/WA1/70", QueryCommandParser.MESSAGE_INVALID_GRADE_CONDITION);
+        assertParseFailure(parser, " sub/Math/WA1>=high", QueryCommandParser.MESSAGE_INVALID_GRADE_CONDITION);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " date/2025-02-30", ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsQueryCommand() {
+        Query expectedQuery = new Query(List.of(
+                List.of(new KeywordCondition(List.of("alice", "bob")),
+                        new AttributeCondition("subject", Set.of("math", "science")),
+                        new TagCondition(new Tag("Sec3")),
+                        new GradeCondition("Math", "WA1", Comparison.AT_LEAST, 70)),
+                List.of(new GradeCondition("Math", "WA2", Comparison.LESS_THAN, 50),
+                        new LessonDateCondition(LocalDate.of(2025, 9, 20)))));
+
+        assertParseSuccess(parser, " kw/alice bob attr/Subject=math,science t/Sec3 sub/Math/WA1>=70"
+                + " | date/2025-09-20 sub/Math/WA2<50", new QueryCommand(expectedQuery));
+
+        // conditions in a different order
+        assertParseSuccess(parser, " sub/Math/WA1>=70 t/Sec3 kw/alice bob attr/subject=science,math"
+                + " |sub/Math/WA2<50 date/2025-09-20  ", new QueryCommand(expectedQuery));
+    }
+
+}
@@ -54,6 +54,33 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void hasUnsavedChanges_trackedAcrossMutations() {
+        assertFalse(addressBook.hasUnsavedChanges());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.hasUnsavedChanges());
+        addressBook.markSaved();
+        assertFalse(addressBook.hasUnsavedChanges());
+
+        // read-only operations do not mark the address book as changed
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertFalse(addressBook.hasUnsavedChanges());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.hasUnsavedChanges());
+        addressBook.markSaved();
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.hasUnsavedChanges());
+        addressBook.markSaved();
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.hasUnsavedChanges());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
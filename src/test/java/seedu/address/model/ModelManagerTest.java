@@ -7,6 +7,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -17,14 +18,21 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.AttributeContainsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Unit tests for {@link ModelManager}.
@@ -181,6 +189,163 @@ public class ModelManagerTest {
         assertTrue(modelManager.getFilteredPersonList().isEmpty());
     }
 
+    @Test
+    public void updateFilteredPersonListByAttributes_personEdited_filterStaysCurrent() {
+        Person alice = new PersonBuilder(ALICE).withAttributes(new Attribute("subject", "math")).build();
+        Person benson = new PersonBuilder(BENSON).withAttributes(new Attribute("subject", "science")).build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(benson).build(),
+                new UserPrefs());
+
+        modelManager.updateFilteredPersonListByAttributes(
+                new AttributeContainsPredicate(Map.of("subject", Set.of("math"))));
+        assertEquals(Collections.singletonList(alice), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(benson).withAttributes(new Attribute("subject", "math")).build();
+        modelManager.setPerson(benson, editedBenson);
+        assertEquals(Arrays.asList(alice, editedBenson), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(alice).withAttributes(new Attribute("subject", "english")).build();
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywords_personEdited_filterStaysCurrent() {
+        modelManager.updateFilteredPersonListByKeywords(
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_filterActive_filterKept() {
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        modelManager.addPerson(new PersonBuilder().withName("Hoon Tan").withPhone("8482424")
+                .withEmail("hoon@example.com").build());
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        Person ida = new PersonBuilder().withName("Ida Meier").withPhone("8482131").withEmail("ida@example.com")
+                .build();
+        modelManager.addPerson(ida);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ida), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deletePerson_filterActive_samePersonAddedBackNotMatching_notShown() {
+        AttributeContainsPredicate predicate = new AttributeContainsPredicate(Map.of("subject", Set.of("math")));
+        Person mathAlice = new PersonBuilder(ALICE).withAttributes(new Attribute("subject", "math")).build();
+        modelManager.setPerson(ALICE, mathAlice);
+        modelManager.updateFilteredPersonListByAttributes(predicate);
+        assertEquals(Collections.singletonList(mathAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(mathAlice);
+        Person scienceAlice = new PersonBuilder(ALICE).withAttributes(new Attribute("subject", "science")).build();
+        modelManager.addPerson(scienceAlice);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void addPerson_duplicatePersonWithFilterActive_filterUnchanged() {
+        AttributeContainsPredicate predicate = new AttributeContainsPredicate(Map.of("subject", Set.of("math")));
+        modelManager.updateFilteredPersonListByAttributes(predicate);
+
+        Person mathCarl = new PersonBuilder(CARL).withAttributes(new Attribute("subject", "math")).build();
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(mathCarl));
+
+        // The rejected person must not have left CARL among the persons matching the filter.
+        modelManager.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void setPerson_duplicatePersonWithFilterActive_filterUnchanged() {
+        modelManager.updateFilteredPersonListByKeywords(
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier")));
+
+        Person bensonAsAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> modelManager.setPerson(BENSON, bensonAsAlice));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // The filter still treats BENSON as matching after the rejected edit.
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywords_personAdded_filterStaysCurrent() {
+        modelManager.updateFilteredPersonListByKeywords(
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier")));
+
+        Person ida = new PersonBuilder().withName("Ida Meier").withPhone("8482131").withEmail("ida@example.com")
+                .build();
+        modelManager.addPerson(ida);
+        modelManager.addPerson(new PersonBuilder().withName("Hoon Tan").withPhone("8482424")
+                .withEmail("hoon@example.com").build());
+        assertEquals(Arrays.asList(BENSON, DANIEL, ida), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywords_repeatedAfterChange_changeShown() {
+        PersonContainsKeywordPredicate predicate =
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier"));
+        modelManager.updateFilteredPersonListByKeywords(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        Person ida = new PersonBuilder().withName("Ida Meier").withPhone("8482131").withEmail("ida@example.com")
+                .build();
+        modelManager.addPerson(ida);
+        modelManager.updateFilteredPersonListByKeywords(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ida), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonListByKeywords(predicate);
+        assertEquals(Arrays.asList(DANIEL, ida), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonListByKeywords(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByAttributes_repeatedAfterChange_changeShown() {
+        AttributeContainsPredicate predicate = new AttributeContainsPredicate(Map.of("subject", Set.of("math")));
+        modelManager.updateFilteredPersonListByAttributes(predicate);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        Person editedAlice = new PersonBuilder(ALICE).withAttributes(new Attribute("subject", "math")).build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonListByAttributes(predicate);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywords_largeAddressBook_sameAsSequentialFilter() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ParallelPersonFilter.PARALLEL_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        ModelManager expectedModelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        for (String keyword : Arrays.asList("42", "student 99")) {
+            PersonContainsKeywordPredicate predicate =
+                    new PersonContainsKeywordPredicate(Collections.singletonList(keyword));
+            modelManager.updateFilteredPersonListByKeywords(predicate);
+            expectedModelManager.updateFilteredPersonList(predicate);
+            assertEquals(expectedModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+        }
+    }
+
     // ===========================================================
     // equals()
     // ===========================================================
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonFilterTest {
+
+    @Test
+    public void findMatchingIdentityKeys_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelPersonFilter.findMatchingIdentityKeys(getTypicalPersons(), null));
+    }
+
+    @Test
+    public void findMatchingIdentityKeys_typicalPersons_matchesFound() {
+        PersonContainsKeywordPredicate predicate =
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier"));
+        assertEquals(Set.of(BENSON.getIdentityKey(), DANIEL.getIdentityKey()),
+                ParallelPersonFilter.findMatchingIdentityKeys(getTypicalPersons(), predicate));
+    }
+
+    @Test
+    public void findMatchingIdentityKeys_manyPersons_sameAsSequential() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonFilter.PARALLEL_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).build());
+        }
+        PersonContainsKeywordPredicate predicate =
+                new PersonContainsKeywordPredicate(Collections.singletonList("7"));
+
+        Set<String> matches = ParallelPersonFilter.findMatchingIdentityKeys(persons, predicate);
+        for (Person person : persons) {
+            assertEquals(predicate.test(person), matches.contains(person.getIdentityKey()));
+        }
+    }
+
+    @Test
+    public void isWorthParallelizing() {
+        assertFalse(ParallelPersonFilter.isWorthParallelizing(ParallelPersonFilter.PARALLEL_THRESHOLD - 1));
+        assertTrue(ParallelPersonFilter.isWorthParallelizing(ParallelPersonFilter.PARALLEL_THRESHOLD));
+    }
+
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+
+public class QueryResultCacheTest {
+
+    private static final PersonContainsKeywordPredicate MEIER_PREDICATE =
+            new PersonContainsKeywordPredicate(Collections.singletonList("meier"));
+    private static final PersonContainsKeywordPredicate ALICE_PREDICATE =
+            new PersonContainsKeywordPredicate(Collections.singletonList("alice"));
+
+    @Test
+    public void get_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QueryResultCache().get(null, 0));
+    }
+
+    @Test
+    public void get_equalPredicateSameVersion_resultFound() {
+        QueryResultCache cache = new QueryResultCache();
+        cache.put(MEIER_PREDICATE, 1, Set.of("benson", "daniel"));
+
+        PersonContainsKeywordPredicate meierPredicateCopy =
+                new PersonContainsKeywordPredicate(Collections.singletonList("meier"));
+        assertEquals(Optional.of(Set.of("benson", "daniel")), cache.get(meierPredicateCopy, 1));
+    }
+
+    @Test
+    public void get_otherVersionOrPredicate_emptyResult() {
+        QueryResultCache cache = new QueryResultCache();
+        cache.put(MEIER_PREDICATE, 1, Set.of("benson", "daniel"));
+
+        assertFalse(cache.get(MEIER_PREDICATE, 2).isPresent());
+        assertFalse(cache.get(ALICE_PREDICATE, 1).isPresent());
+    }
+
+    @Test
+    public void get_resultModified_cacheUnchanged() {
+        QueryResultCache cache = new QueryResultCache();
+        Set<String> result = new HashSet<>(Set.of("benson"));
+        cache.put(MEIER_PREDICATE, 1, result);
+        result.add("daniel");
+        cache.get(MEIER_PREDICATE, 1).get().add("elle");
+
+        assertEquals(Optional.of(Set.of("benson")), cache.get(MEIER_PREDICATE, 1));
+    }
+
+    @Test
+    public void put_pastCapacity_leastRecentlyUsedEvicted() {
+        QueryResultCache cache = new QueryResultCache(2);
+        cache.put(MEIER_PREDICATE, 1, Set.of("benson"));
+        cache.put(ALICE_PREDICATE, 1, Set.of("alice"));
+        cache.get(MEIER_PREDICATE, 1);
+        cache.put(MEIER_PREDICATE, 2, Set.of("daniel"));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(MEIER_PREDICATE, 1).isPresent());
+        assertFalse(cache.get(ALICE_PREDICATE, 1).isPresent());
+        assertTrue(cache.get(MEIER_PREDICATE, 2).isPresent());
+    }
+
+}
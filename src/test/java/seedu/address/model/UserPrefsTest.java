@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +22,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void dataFilePrettyPrinted_defaultTrueAndCopied() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(userPrefs.isDataFilePrettyPrinted());
+
+        userPrefs.setDataFilePrettyPrinted(false);
+        assertNotEquals(new UserPrefs(), userPrefs);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertFalse(copy.isDataFilePrettyPrinted());
+        assertEquals(userPrefs, copy);
+    }
+
 }
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeIndexTest {
+
+    private static final Person MATH_SEC1 = new PersonBuilder().withName("Alice").withPhone("91111111")
+            .withAttributes(new Attribute("subject", Arrays.asList("math", "science")),
+                    new Attribute("level", "sec1")).build();
+    private static final Person SCIENCE_SEC2 = new PersonBuilder().withName("Bob").withPhone("92222222")
+            .withAttributes(new Attribute("subject", "science"), new Attribute("level", "sec2")).build();
+
+    private final AttributeIndex index = new AttributeIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findMatches_singleKey_unionOfValues() {
+        index.add(MATH_SEC1);
+        index.add(SCIENCE_SEC2);
+
+        assertEquals(Set.of(MATH_SEC1.getIdentityKey()), index.findMatches(Map.of("subject", Set.of("math"))));
+        assertEquals(Set.of(MATH_SEC1.getIdentityKey(), SCIENCE_SEC2.getIdentityKey()),
+                index.findMatches(Map.of("subject", Set.of("math", "science"))));
+    }
+
+    @Test
+    public void findMatches_multipleKeys_intersectionOfKeys() {
+        index.add(MATH_SEC1);
+        index.add(SCIENCE_SEC2);
+        Map<String, Set<String>> filters = new HashMap<>();
+        filters.put("subject", Set.of("science"));
+        filters.put("level", Set.of("sec2"));
+
+        assertEquals(Set.of(SCIENCE_SEC2.getIdentityKey()), index.findMatches(filters));
+
+        filters.put("level", Set.of("sec3"));
+        assertTrue(index.findMatches(filters).isEmpty());
+    }
+
+    @Test
+    public void findMatches_valueInDifferentCase_matches() {
+        index.add(MATH_SEC1);
+
+        assertEquals(Set.of(MATH_SEC1.getIdentityKey()), index.findMatches(Map.of("subject", Set.of(" MaTh "))));
+    }
+
+    @Test
+    public void findMatches_matchesConsistentWithPredicate() {
+        index.add(MATH_SEC1);
+        index.add(SCIENCE_SEC2);
+        Map<String, Set<String>> filters = Map.of("subject", Set.of("science"), "level", Set.of("sec1", "sec2"));
+        AttributeContainsPredicate predicate = new AttributeContainsPredicate(filters);
+
+        Set<String> matches = index.findMatches(filters);
+        for (Person person : Arrays.asList(MATH_SEC1, SCIENCE_SEC2)) {
+            assertEquals(predicate.test(person), matches.contains(person.getIdentityKey()));
+        }
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatched() {
+        index.add(MATH_SEC1);
+        index.add(SCIENCE_SEC2);
+        index.remove(MATH_SEC1);
+
+        assertTrue(index.findMatches(Map.of("subject", Set.of("math"))).isEmpty());
+        assertEquals(Set.of(SCIENCE_SEC2.getIdentityKey()), index.findMatches(Map.of("subject", Set.of("science"))));
+    }
+
+    @Test
+    public void clear_indexedPersons_noLongerMatched() {
+        index.add(MATH_SEC1);
+        index.clear();
+
+        assertTrue(index.findMatches(Map.of("subject", Set.of("math"))).isEmpty());
+    }
+
+}
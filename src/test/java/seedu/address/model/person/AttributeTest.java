@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -137,6 +138,22 @@ public class AttributeTest {
         assertEquals(attribute1.hashCode(), attribute2.hashCode());
     }
 
+    @Test
+    public void hashCode_repeatedCalls_returnsSameHashCode() {
+        Attribute attribute = new Attribute("subject", Arrays.asList("math", "science"));
+        int hashCode = attribute.hashCode();
+        assertEquals(hashCode, attribute.hashCode());
+        assertEquals(new Attribute("subject", Arrays.asList("science", "math")).hashCode(), hashCode);
+    }
+
+    @Test
+    public void getValues_modifyValues_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                new Attribute("subject", Arrays.asList("math")).getValues().add("science"));
+        assertThrows(UnsupportedOperationException.class, () ->
+                new Attribute("subject", "math").getValues().clear());
+    }
+
     @Test
     public void hashCode_differentKey_returnsDifferentHashCode() {
         Attribute attribute1 = new Attribute("subject", Arrays.asList("math"));
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -86,6 +88,17 @@ public class GradeListTest {
         assertTrue(updatedGradeList.hasGrade("MATH", "Quiz1"));
     }
 
+    @Test
+    public void getGrades_addedOutOfOrder_orderedBySubjectAndAssessment() {
+        Grade scienceQuiz = new Grade("SCIENCE", "Quiz1", "95");
+        Grade mathWa = new Grade("MATH", "WA1", "89");
+        Grade mathQuiz = new Grade("MATH", "Quiz1", "92");
+        GradeList gradeList = new GradeList().addGrade(scienceQuiz).addGrade(mathWa).addGrade(mathQuiz);
+
+        assertEquals(List.of(mathQuiz, mathWa, scienceQuiz), new ArrayList<>(gradeList.getGrades().values()));
+        assertEquals("[MATH/Quiz1/92, MATH/WA1/89, SCIENCE/Quiz1/95]", gradeList.toString());
+    }
+
     @Test
     public void getGrade_existingGrade_returnsGrade() {
         GradeList gradeList = new GradeList();
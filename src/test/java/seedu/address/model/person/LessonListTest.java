@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +40,23 @@ public class LessonListTest {
         assertFalse(lessonList.hasDuplicates(lesson3));
     }
 
+    @Test
+    public void hasLessonOn() {
+        LessonList lessonList = new LessonList().add(lesson1).add(overnightLesson);
+        Lesson endingAtMidnight = new Lesson("22:00", "00:00", "2023-01-05", "2023-01-06", "Camp", false);
+
+        assertTrue(lessonList.hasLessonOn(LocalDate.of(2023, 1, 1)));
+        assertFalse(new LessonList().hasLessonOn(LocalDate.of(2023, 1, 1)));
+
+        // lesson running past midnight -> also on the next day, but not after it
+        assertTrue(lessonList.hasLessonOn(LocalDate.of(2023, 1, 2)));
+        assertFalse(lessonList.hasLessonOn(LocalDate.of(2023, 1, 3)));
+        assertFalse(lessonList.hasLessonOn(LocalDate.of(2022, 12, 31)));
+
+        // lesson ending at midnight -> on its end date too
+        assertTrue(new LessonList().add(endingAtMidnight).hasLessonOn(LocalDate.of(2023, 1, 6)));
+    }
+
     @Test
     public void hasOverlappingLesson_overlapOnSameDate_returnsTrue() {
         LessonList lessonList = new LessonList().add(lesson1);
@@ -56,6 +75,29 @@ public class LessonListTest {
         assertTrue(lessonList.hasOverlappingLesson(morningLesson));
     }
 
+    @Test
+    public void hasOverlappingLesson_longEarlierLesson_returnsTrue() {
+        Lesson dayLongLesson = new Lesson("08:00", "18:00", "2023-01-01", "Camp", false);
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(dayLongLesson, lesson1, lesson3)));
+        assertTrue(lessonList.hasOverlappingLesson(lesson2));
+    }
+
+    @Test
+    public void hasOverlappingLesson_beforeOrBetweenLessons_returnsFalse() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2, lesson3)));
+        assertFalse(lessonList.hasOverlappingLesson(new Lesson("08:00", "09:00", "2023-01-01", "Art", false)));
+        assertFalse(lessonList.hasOverlappingLesson(adjacentLesson));
+        assertFalse(lessonList.hasOverlappingLesson(new Lesson("10:00", "11:00", "2023-01-03", "Art", false)));
+        assertFalse(new LessonList().hasOverlappingLesson(lesson1));
+    }
+
+    @Test
+    public void checkForDuplicates_sameTimeOtherLesson_returnsFalse() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2)));
+        assertFalse(lessonList.hasDuplicates(new Lesson("10:00", "11:00", "2023-01-01", "Art", false)));
+        assertFalse(lessonList.hasDuplicates(new Lesson("10:00", "11:00", "2023-01-01", "Math", true)));
+    }
+
     @Test
     public void constructor_fromArrayList_sortsLessons() {
         ArrayList<Lesson> unsortedList = new ArrayList<>(Arrays.asList(lesson2, lesson3, lesson1));
@@ -82,6 +124,61 @@ public class LessonListTest {
         assertEquals(expectedOrder, finalList.getLessons());
     }
 
+    @Test
+    public void set_sameTime_replacedInPlace() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2, lesson3)));
+        Lesson attendedLesson1 = new Lesson("10:00", "11:00", "2023-01-01", "Math", true);
+
+        LessonList updatedList = lessonList.set(0, attendedLesson1);
+        assertEquals(Arrays.asList(attendedLesson1, lesson2, lesson3), updatedList.getLessons());
+        assertEquals(3, updatedList.getAttendedLessonCount());
+        assertEquals(Arrays.asList(lesson1, lesson2, lesson3), lessonList.getLessons());
+    }
+
+    @Test
+    public void set_otherTime_keptInChronologicalOrder() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2, lesson3)));
+        assertEquals(Arrays.asList(lesson2, morningLesson, lesson3),
+                lessonList.set(0, morningLesson).getLessons());
+    }
+
+    @Test
+    public void addAndRemove_manyLessons_matchesSortedList() {
+        ArrayList<Lesson> added = new ArrayList<>();
+        LessonList lessonList = new LessonList();
+        for (int i = 0; i < 60; i++) {
+            // Spread the lessons over the days out of order, with several of them at the same time.
+            String date = String.format("2023-01-%02d", (i * 7) % 28 + 1);
+            Lesson lesson = new Lesson("10:00", "11:00", date, "Subject" + i, i % 3 == 0);
+            added.add(lesson);
+            lessonList = lessonList.add(lesson);
+        }
+
+        ArrayList<Lesson> remaining = new ArrayList<>();
+        for (int i = 0; i < added.size(); i++) {
+            if (i % 4 == 0) {
+                lessonList = lessonList.remove(added.get(i));
+            } else {
+                remaining.add(added.get(i));
+            }
+        }
+        Collections.sort(remaining);
+
+        assertEquals(remaining, lessonList.getLessons());
+        for (int i = 0; i < remaining.size(); i++) {
+            assertEquals(remaining.get(i), lessonList.get(i));
+            assertTrue(lessonList.hasDuplicates(remaining.get(i)));
+        }
+        assertFalse(lessonList.hasDuplicates(added.get(0)));
+        assertEquals(remaining.stream().filter(Lesson::isPresent).count(), lessonList.getAttendedLessonCount());
+    }
+
+    @Test
+    public void remove_absentLesson_unchanged() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2)));
+        assertEquals(lessonList, lessonList.remove(lesson3));
+    }
+
     @Test
     public void getAttendedLessonCount_correctCount() {
         // No lessons
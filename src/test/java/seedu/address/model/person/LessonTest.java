@@ -105,4 +105,24 @@ public class LessonTest {
                 "2023-01-02", "Breakfast", false);
         assertTrue(overnightLesson.overlapsWith(earlyMorningLesson));
     }
+
+    @Test
+    public void compareTo_orderedByStartThenEnd() {
+        Lesson earlierDayLesson = new Lesson("15:00", "16:00", "2022-12-31", "Math", false);
+        Lesson longerLesson = new Lesson("10:00", "12:00", "2023-01-01", "Science", true);
+        Lesson sameTimeLesson = new Lesson("10:00", "11:00", "2023-01-01", "Science", true);
+
+        assertTrue(earlierDayLesson.compareTo(lesson) < 0);
+        assertTrue(lesson.compareTo(longerLesson) < 0);
+        assertTrue(longerLesson.compareTo(lesson) > 0);
+        assertEquals(0, lesson.compareTo(sameTimeLesson));
+    }
+
+    @Test
+    public void getEpochMinutes_overnightLesson_spansDates() {
+        Lesson overnightLesson = new Lesson("23:00", "01:00", "2023-01-01",
+                "2023-01-02", "Camp", false);
+        assertEquals(120, overnightLesson.getEndEpochMinute() - overnightLesson.getStartEpochMinute());
+        assertEquals(lesson.getStartEpochMinute() + 13 * 60, overnightLesson.getStartEpochMinute());
+    }
 }
@@ -62,6 +62,76 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // whitespace and case are ignored
+        assertEquals("bobchoo", BOB.getIdentityKey());
+        Person editedBob = new PersonBuilder(BOB).withName("BOB   choo").build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+        assertEquals(BOB.getIdentityKey().hashCode(), editedBob.getIdentityKey().hashCode());
+
+        // different name -> different key
+        assertNotEquals(ALICE.getIdentityKey(), BOB.getIdentityKey());
+    }
+
+    @Test
+    public void getSearchableFields_lowerCased() {
+        Person person = new PersonBuilder().withName("Bob CHOO").withPhone("91234567")
+                .withEmail("Bob.Choo@Example.com").build();
+        assertEquals("bob choo", person.getSearchableName());
+        assertEquals("91234567", person.getSearchablePhone());
+        assertEquals("bob.choo@example.com", person.getSearchableEmail());
+    }
+
+    @Test
+    public void withLessonList_otherFieldsKept() {
+        LessonList lessonList = new LessonList().add(new Lesson("10:00", "11:00", "2023-01-01", "Math", false));
+        Person expectedAlice = new PersonBuilder(ALICE).withLessonList(lessonList).build();
+        Person editedAlice = ALICE.withLessonList(lessonList);
+
+        assertEquals(expectedAlice, editedAlice);
+        assertEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+    }
+
+    @Test
+    public void withGradeList_otherFieldsKept() {
+        Grade grade = new Grade("MATH", "WA1", "89");
+        assertEquals(new PersonBuilder(ALICE).withGrades(grade).build(),
+                ALICE.withGradeList(ALICE.getGradeList().addGrade(grade)));
+    }
+
+    @Test
+    public void withTags_otherFieldsKept() {
+        Person expectedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(expectedAlice, ALICE.withTags(expectedAlice.getTags()));
+
+        // same tags -> equal person
+        assertEquals(ALICE, ALICE.withTags(ALICE.getTags()));
+    }
+
+    @Test
+    public void withContactDetails_searchableFieldsUpdated() {
+        Person editedAlice = ALICE.withContactDetails(BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress());
+
+        assertEquals(new PersonBuilder(ALICE).withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).build(), editedAlice);
+        assertEquals(BOB.getIdentityKey(), editedAlice.getIdentityKey());
+        assertEquals(BOB.getSearchableName(), editedAlice.getSearchableName());
+        assertEquals(BOB.getSearchablePhone(), editedAlice.getSearchablePhone());
+        assertEquals(BOB.getSearchableEmail(), editedAlice.getSearchableEmail());
+    }
+
+    @Test
+    public void withMethods_nullField_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ALICE.withLessonList(null));
+        assertThrows(NullPointerException.class, () -> ALICE.withGradeList(null));
+        assertThrows(NullPointerException.class, () -> ALICE.withTags(null));
+        assertThrows(NullPointerException.class, () -> ALICE.withAttributes(null));
+        assertThrows(NullPointerException.class, () -> ALICE.withContactDetails(null, BOB.getPhone(),
+                BOB.getEmail(), BOB.getAddress()));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -107,6 +177,12 @@ public class PersonTest {
         Person aliceCopy = new PersonBuilder(ALICE).build();
         assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
 
+        // repeated calls -> returns same hashcode
+        assertEquals(aliceCopy.hashCode(), aliceCopy.hashCode());
+
+        // copy with an equal field -> returns same hashcode
+        assertEquals(ALICE.hashCode(), ALICE.withTags(ALICE.getTags()).hashCode());
+
         // different person -> returns different hashcode
         assertNotEquals(ALICE.hashCode(), BOB.hashCode());
     }
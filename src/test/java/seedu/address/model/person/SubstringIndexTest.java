@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SubstringIndexTest {
+
+    private final SubstringIndex index = new SubstringIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findCandidates_partOfName_personFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        assertEquals(Set.of(ALICE.getIdentityKey()), index.findCandidates(Collections.singletonList("ALIC")).get());
+    }
+
+    @Test
+    public void findCandidates_partOfPhoneOrEmail_personsFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        List<String> keywords = Arrays.asList(ALICE.getPhone().value.substring(2),
+                BENSON.getEmail().value.substring(0, 5).toUpperCase());
+
+        Set<String> candidates = index.findCandidates(keywords).get();
+        assertTrue(candidates.containsAll(Set.of(ALICE.getIdentityKey(), BENSON.getIdentityKey())));
+    }
+
+    @Test
+    public void findCandidates_candidatesIncludeEveryMatch() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        persons.forEach(index::add);
+        List<String> keywords = Arrays.asList("meier", " kurz ", "example.com");
+        PersonContainsKeywordPredicate predicate = new PersonContainsKeywordPredicate(keywords);
+
+        Set<String> candidates = index.findCandidates(keywords).get();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                assertTrue(candidates.contains(person.getIdentityKey()));
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_absentKeyword_noCandidates() {
+        index.add(ALICE);
+
+        assertTrue(index.findCandidates(Collections.singletonList("zzzz")).get().isEmpty());
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_notLookedUp() {
+        index.add(ALICE);
+
+        assertFalse(index.findCandidates(Arrays.asList("alice", "al")).isPresent());
+        assertFalse(index.findCandidates(Collections.singletonList("  ")).isPresent());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        assertTrue(index.findCandidates(Collections.singletonList("alice")).get().isEmpty());
+        assertEquals(Set.of(BENSON.getIdentityKey()), index.findCandidates(Collections.singletonList("benson")).get());
+    }
+
+}
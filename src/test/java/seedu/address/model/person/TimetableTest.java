@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TimetableTest {
+
+    private final Lesson mondayMath = new Lesson("14:00", "15:00", "2025-09-15", "Math");
+    private final Lesson mondayScience = new Lesson("16:00", "17:00", "2025-09-15", "Science");
+    private final Lesson overnightCamp = new Lesson("22:00", "02:00", "2025-09-16", "2025-09-17", "Camp", false);
+    private final Lesson wednesdayMath = new Lesson("09:00", "10:00", "2025-09-17", "Math");
+
+    private final Person alice = new PersonBuilder(ALICE).withLesson(mondayMath).withLesson(overnightCamp).build();
+    private final Person benson = new PersonBuilder(BENSON).withLesson(mondayScience).withLesson(wednesdayMath)
+            .build();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Timetable(unused -> null).add(null));
+    }
+
+    @Test
+    public void constructor_nullPersonLookup_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Timetable(null));
+    }
+
+    @Test
+    public void findOverlapping_lessonsOfSeveralPersons_overlappingFound() {
+        Timetable timetable = createTimetable();
+
+        Lesson mondayAfternoon = new Lesson("14:30", "16:30", "2025-09-15", "English");
+        assertEquals(List.of(new ScheduledLesson(alice, mondayMath), new ScheduledLesson(benson, mondayScience)),
+                timetable.findOverlapping(mondayAfternoon));
+
+        Lesson adjacentLesson = new Lesson("15:00", "16:00", "2025-09-15", "English");
+        assertTrue(timetable.findOverlapping(adjacentLesson).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_lessonStartedEarlier_found() {
+        Timetable timetable = createTimetable();
+
+        Lesson earlyMorning = new Lesson("01:00", "03:00", "2025-09-17", "English");
+        assertEquals(List.of(new ScheduledLesson(alice, overnightCamp)), timetable.findOverlapping(earlyMorning));
+    }
+
+    @Test
+    public void findBetween_dateRange_lessonsOnThoseDatesFound() {
+        Timetable timetable = createTimetable();
+
+        assertEquals(List.of(new ScheduledLesson(alice, overnightCamp), new ScheduledLesson(benson, wednesdayMath)),
+                timetable.findBetween(LocalDate.of(2025, 9, 17), LocalDate.of(2025, 9, 18)));
+        assertEquals(4, timetable.findBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 21)).size());
+        assertTrue(timetable.findBetween(LocalDate.of(2025, 9, 18), LocalDate.of(2025, 9, 21)).isEmpty());
+    }
+
+    @Test
+    public void remove_person_lessonsRemoved() {
+        Timetable timetable = createTimetable();
+        timetable.remove(alice);
+
+        assertEquals(2, timetable.size());
+        assertEquals(List.of(new ScheduledLesson(benson, mondayScience), new ScheduledLesson(benson, wednesdayMath)),
+                timetable.findBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 21)));
+
+        // The overnight lesson no longer widens the look-up once it is removed.
+        Lesson earlyMorning = new Lesson("01:00", "03:00", "2025-09-17", "English");
+        assertTrue(timetable.findOverlapping(earlyMorning).isEmpty());
+    }
+
+    @Test
+    public void clear_lessonsRemoved() {
+        Timetable timetable = createTimetable();
+        timetable.clear();
+
+        assertEquals(0, timetable.size());
+        assertTrue(timetable.findBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 21)).isEmpty());
+    }
+
+    private Timetable createTimetable() {
+        Map<String, Person> persons = Map.of(alice.getIdentityKey(), alice, benson.getIdentityKey(), benson);
+        Timetable timetable = new Timetable(persons::get);
+        timetable.add(alice);
+        timetable.add(benson);
+        return timetable;
+    }
+}
@@ -8,10 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +52,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentSpacingAndCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person spacedAlice = new PersonBuilder(ALICE).withName("ALICE   paul").build();
+        assertTrue(uniquePersonList.contains(spacedAlice));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +121,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +156,59 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_samePersonDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, ALICE));
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(new PersonBuilder(CARL).build(), editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_lessonsUnchanged_lessonsFoundForEditedPerson() {
+        Lesson lesson = new Lesson("14:00", "15:00", "2025-09-15", "Math");
+        Person alice = new PersonBuilder(ALICE).withLesson(lesson).build();
+        uniquePersonList.add(alice);
+        Person editedAlice = alice.withRemark(new Remark("Needs help with algebra."));
+        uniquePersonList.setPerson(alice, editedAlice);
+
+        assertEquals(List.of(new ScheduledLesson(editedAlice, lesson)),
+                uniquePersonList.findLessonsBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 15)));
+    }
+
+    @Test
+    public void setPerson_renamedWithSameLessonsAndAttributes_indexesUpdated() {
+        Lesson lesson = new Lesson("14:00", "15:00", "2025-09-15", "Math");
+        Person alice = new PersonBuilder(ALICE).withAttributes(new Attribute("level", "sec1")).withLesson(lesson)
+                .build();
+        uniquePersonList.add(alice);
+        Person renamedAlice = new PersonBuilder(alice).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(alice, renamedAlice);
+
+        assertEquals(List.of(new ScheduledLesson(renamedAlice, lesson)),
+                uniquePersonList.findLessonsBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 15)));
+        assertEquals(Set.of(renamedAlice.getIdentityKey()),
+                uniquePersonList.findIdentityKeysWithAttributes(Map.of("level", Set.of("sec1"))));
+        assertEquals(Optional.of(Set.of(renamedAlice.getIdentityKey())),
+                uniquePersonList.findCandidateIdentityKeysWithKeywords(List.of("alicia")));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,12 +238,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicateGroups_reportsAllGroups() {
+        Person spacedAlice = new PersonBuilder(ALICE).withName("alice  paul").build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, spacedAlice, BOB, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + "[Alice Paul, alice  paul, Alice Paul], [Bob Choo, Bob Choo]";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniquePersonList.setPersons(persons));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
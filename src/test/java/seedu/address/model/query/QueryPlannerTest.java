@@ -0,0 +1,145 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.GradeCondition.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final LocalDate LESSON_DATE = LocalDate.of(2025, 9, 20);
+
+    @Test
+    public void plan_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> QueryPlanner.plan(null, new AddressBook()));
+    }
+
+    @Test
+    public void plan_mixedConditions_matchesSameAsQuery() {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Person person = createPerson(i);
+            persons.add(person);
+            addressBook.addPerson(person);
+        }
+
+        List<Query> queries = Arrays.asList(
+                query(List.of(new KeywordCondition(List.of("student 1")))),
+                query(List.of(new AttributeCondition("subject", Set.of("math")), new TagCondition(new Tag("Sec2")))),
+                query(List.of(new KeywordCondition(List.of("st")), new GradeCondition("Math", "WA1",
+                        Comparison.AT_LEAST, 70))),
+                query(List.of(new AttributeCondition("subject", Set.of("science")),
+                        new KeywordCondition(List.of("student 2", "student 3")),
+                        new LessonDateCondition(LESSON_DATE)),
+                        List.of(new TagCondition(new Tag("Sec1")), new GradeCondition("Math", "WA1",
+                                Comparison.LESS_THAN, 55))),
+                query(List.of(new AttributeCondition("subject", Set.of("history")))));
+
+        for (Query query : queries) {
+            Predicate<Person> plan = QueryPlanner.plan(query, addressBook);
+            for (Person person : persons) {
+                assertEquals(query.test(person), plan.test(person), query + " on " + person.getName());
+            }
+        }
+    }
+
+    @SafeVarargs
+    private static Query query(List<QueryCondition>... groups) {
+        return new Query(Arrays.asList(groups));
+    }
+
+    private static Person createPerson(int i) {
+        PersonBuilder builder = new PersonBuilder().withName("Student " + i)
+                .withPhone(String.format("9%07d", i))
+                .withTags("Sec" + (i % 3 + 1))
+                .withAttributes(new Attribute("subject", i % 2 == 0 ? "math" : "science"))
+                .withGrades(new Grade("Math", "WA1", String.valueOf(40 + i)));
+        if (i % 4 == 0) {
+            builder.withLesson(new Lesson("14:00", "16:00", LESSON_DATE.toString(), "Math"));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void plan_cheapSelectiveCondition_testedFirst() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(createPerson(0));
+        addressBook.addPerson(createPerson(1));
+        CountingCondition expensive = new CountingCondition(100, 0.9, true);
+        CountingCondition cheap = new CountingCondition(1, 0.1, false);
+
+        Predicate<Person> plan = QueryPlanner.plan(query(List.of(expensive, cheap)), addressBook);
+        for (Person person : addressBook.getPersonList()) {
+            assertFalse(plan.test(person));
+        }
+        assertEquals(2, cheap.testCount);
+        assertEquals(0, expensive.testCount);
+    }
+
+    @Test
+    public void plan_exactLookUp_notTestedAgain() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(createPerson(0));
+        addressBook.addPerson(createPerson(1));
+        CountingCondition unindexed = new CountingCondition(1, 0.5, true);
+
+        Predicate<Person> plan = QueryPlanner.plan(
+                query(List.of(new AttributeCondition("subject", Set.of("math")), unindexed)), addressBook);
+        assertTrue(plan.test(addressBook.getPersonList().get(0)));
+        assertFalse(plan.test(addressBook.getPersonList().get(1)));
+        // The person without the attribute is rejected by the look-up alone
+        assertEquals(1, unindexed.testCount);
+    }
+
+    /**
+     * A condition with fixed estimates that counts how often it is tested.
+     */
+    private static class CountingCondition implements QueryCondition {
+        private final int cost;
+        private final double selectivity;
+        private final boolean result;
+        private int testCount;
+
+        CountingCondition(int cost, double selectivity, boolean result) {
+            this.cost = cost;
+            this.selectivity = selectivity;
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return result;
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+        @Override
+        public double getEstimatedSelectivity() {
+            return selectivity;
+        }
+    }
+
+}
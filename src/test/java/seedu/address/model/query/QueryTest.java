@@ -0,0 +1,83 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.GradeCondition.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private static final Person STUDENT = new PersonBuilder().withName("Alice Tan").withTags("Sec3")
+            .withAttributes(new Attribute("subject", "math"))
+            .withGrades(new Grade("Math", "WA1", "72"), new Grade("Math", "WA2", "B"))
+            .withLesson(new Lesson("22:00", "01:00", "2025-09-20", "2025-09-21", "Math", false))
+            .build();
+
+    @Test
+    public void test_allConditionsOfGroupSatisfied_returnsTrue() {
+        Query query = new Query(List.of(List.of(new KeywordCondition(List.of("ALICE")),
+                new AttributeCondition("subject", Set.of("math", "science")), new TagCondition(new Tag("Sec3")))));
+        assertTrue(query.test(STUDENT));
+    }
+
+    @Test
+    public void test_oneConditionOfEveryGroupFails_returnsFalse() {
+        Query query = new Query(List.of(List.of(new KeywordCondition(List.of("alice")),
+                new TagCondition(new Tag("Sec4"))), List.of(new AttributeCondition("subject", Set.of("science")))));
+        assertFalse(query.test(STUDENT));
+    }
+
+    @Test
+    public void test_anotherGroupSatisfied_returnsTrue() {
+        Query query = new Query(List.of(List.of(new TagCondition(new Tag("Sec4"))),
+                List.of(new TagCondition(new Tag("Sec3")))));
+        assertTrue(query.test(STUDENT));
+    }
+
+    @Test
+    public void gradeCondition() {
+        assertTrue(new GradeCondition("Math", "WA1", Comparison.AT_LEAST, 72).test(STUDENT));
+        assertTrue(new GradeCondition("Math", "WA1", Comparison.GREATER_THAN, 71.5).test(STUDENT));
+        assertFalse(new GradeCondition("Math", "WA1", Comparison.LESS_THAN, 72).test(STUDENT));
+        assertTrue(new GradeCondition("Math", "WA1", Comparison.EQUAL_TO, 72).test(STUDENT));
+
+        // missing grade or non-numeric score -> returns false
+        assertFalse(new GradeCondition("Math", "EOY", Comparison.AT_MOST, 100).test(STUDENT));
+        assertFalse(new GradeCondition("Math", "WA2", Comparison.AT_MOST, 100).test(STUDENT));
+    }
+
+    @Test
+    public void lessonDateCondition() {
+        assertTrue(new LessonDateCondition(LocalDate.of(2025, 9, 20)).test(STUDENT));
+        // lesson ends on the next day
+        assertTrue(new LessonDateCondition(LocalDate.of(2025, 9, 21)).test(STUDENT));
+        assertFalse(new LessonDateCondition(LocalDate.of(2025, 9, 22)).test(STUDENT));
+    }
+
+    @Test
+    public void equals() {
+        Query query = new Query(List.of(List.of(new TagCondition(new Tag("Sec3")))));
+
+        // same values -> returns true
+        assertEquals(query, new Query(List.of(List.of(new TagCondition(new Tag("Sec3"))))));
+
+        // different conditions -> returns false
+        assertNotEquals(query, new Query(List.of(List.of(new TagCondition(new Tag("Sec4"))))));
+        assertNotEquals(query, new Query(List.of(List.of(new LessonDateCondition(LocalDate.of(2025, 9, 20))))));
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.tag.Tag;
+
+public class StringPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringPool.intern(null));
+    }
+
+    @Test
+    public void intern_equalStrings_sameInstance() {
+        String first = new String("StringPoolTest value");
+        String second = new String("StringPoolTest value");
+
+        assertSame(StringPool.intern(first), StringPool.intern(second));
+        assertEquals(first, StringPool.intern(second));
+    }
+
+    @Test
+    public void modelValues_equalValues_shareInstance() {
+        assertSame(new Tag(new String("friends")).tagName, new Tag(new String("friends")).tagName);
+        assertSame(new Attribute(" Subject ", " Math ").getKey(), new Attribute("subject", "math").getKey());
+        assertSame(new Attribute("subject", " Math ").getValues().iterator().next(),
+                new Attribute("subject", "math").getValues().iterator().next());
+        assertSame(new Lesson("10:00", "11:00", "2023-01-01", new String("Math")).getSub(),
+                new Lesson("12:00", "13:00", "2023-01-02", new String("Math")).getSub());
+        Grade grade = new Grade(new String("MATH"), new String("WA1"), new String("89"));
+        Grade otherGrade = new Grade(" MATH ", " WA1 ", " 89 ");
+        assertSame(grade.subject, otherGrade.subject);
+        assertSame(grade.assessment, otherGrade.assessment);
+    }
+}
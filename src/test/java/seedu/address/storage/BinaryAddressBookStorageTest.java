@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path typicalPersonsFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(typicalPersonsFile).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("futureVersion.bin");
+        FileUtil.writeToFileAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+            out.flush();
+        });
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_overwriteExistingFile_keepsBoundedBackups() throws Exception {
+        Path filePath = testFolder.resolve("backedUp.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 2);
+        AddressBook first = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook second = new AddressBookBuilder().withPerson(BENSON).build();
+        AddressBook third = new AddressBookBuilder().withPerson(CARL).build();
+
+        storage.saveAddressBook(first);
+        storage.saveAddressBook(second);
+        storage.saveAddressBook(third);
+
+        assertEquals(second, new AddressBook(new BinaryAddressBookStorage(filePath, 0)
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 1)).get()));
+        assertEquals(first, new AddressBook(new BinaryAddressBookStorage(filePath, 0)
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 2)).get()));
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 3)));
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_newestValidBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("corrupt.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook saved = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(saved);
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        FileUtil.writeToFile(filePath, "Not a data file!");
+
+        assertEquals(saved, new AddressBook(storage.readAddressBook().get()));
+
+        // no backups kept -> the corrupt file itself fails to load
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, 0).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackups_newestBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook saved = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(saved);
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        Files.delete(filePath);
+
+        assertEquals(saved, new AddressBook(storage.readAddressBook().get()));
+
+        // no backups kept -> treated as a missing file
+        assertFalse(new BinaryAddressBookStorage(filePath, 0).readAddressBook().isPresent());
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(storage.getAddressBookFilePath());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(storage.getAddressBookFilePath()));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingJournal_continuesJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = createStorage();
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(readBack, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(1);
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(original);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(storage.getAddressBookFilePath())
+                .readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void readAddressBook_journalStartedOnOtherSnapshot_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(original);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBookBuilder().withPerson(HOON).build();
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastLine_lineIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(original);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "[{\"operation\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        Files.write(storage.getJournalFilePath(), ("[{\"operation\":\"delete\",\"index\":5}]\n")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return createStorage(JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    private JournaledAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                compactionThreshold);
+    }
+
+}
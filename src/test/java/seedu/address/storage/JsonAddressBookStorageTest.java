@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +66,35 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void read_notJsonObject_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("notObjectAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_truncatedAfterPersons_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        new JsonAddressBookStorage(filePath, false, 0).saveAddressBook(getTypicalAddressBook());
+        String content = FileUtil.readFromFile(filePath).strip();
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() - 1));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath, false, 0)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path typicalPersonsFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(typicalPersonsFile).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +121,115 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("PrettyAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_overwriteExistingFile_keepsBoundedBackups() throws Exception {
+        Path filePath = testFolder.resolve("BackedUpAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 2);
+        AddressBook first = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook second = new AddressBookBuilder().withPerson(BENSON).build();
+        AddressBook third = new AddressBookBuilder().withPerson(CARL).build();
+
+        jsonAddressBookStorage.saveAddressBook(first);
+        jsonAddressBookStorage.saveAddressBook(second);
+        jsonAddressBookStorage.saveAddressBook(third);
+
+        assertEquals(second, new AddressBook(jsonAddressBookStorage
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 1)).get()));
+        assertEquals(first, new AddressBook(jsonAddressBookStorage
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 2)).get()));
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 3)));
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_newestBackupMissing_olderBackupsKept() throws Exception {
+        Path filePath = testFolder.resolve("BackedUpAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 2);
+        AddressBook first = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook second = new AddressBookBuilder().withPerson(BENSON).build();
+        AddressBook third = new AddressBookBuilder().withPerson(CARL).build();
+
+        jsonAddressBookStorage.saveAddressBook(first);
+        jsonAddressBookStorage.saveAddressBook(second);
+        Files.move(JsonAddressBookStorage.getBackupFilePath(filePath, 1),
+                JsonAddressBookStorage.getBackupFilePath(filePath, 2));
+        jsonAddressBookStorage.saveAddressBook(third);
+
+        assertEquals(second, new AddressBook(jsonAddressBookStorage
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 1)).get()));
+        assertEquals(first, new AddressBook(jsonAddressBookStorage
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 2)).get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_backupsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("BackedUpAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 2);
+        AddressBook first = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook second = new AddressBookBuilder().withPerson(BENSON).build();
+        jsonAddressBookStorage.saveAddressBook(first);
+        jsonAddressBookStorage.saveAddressBook(second);
+
+        // the temporary file cannot be created
+        Files.createDirectory(filePath.resolveSibling(filePath.getFileName() + ".tmp"));
+        assertThrows(IOException.class, () -> jsonAddressBookStorage.saveAddressBook(new AddressBook()));
+
+        assertEquals(second, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(first, new AddressBook(jsonAddressBookStorage
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 1)).get()));
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 2)));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackups_newestBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("MissingAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook saved = new AddressBookBuilder().withPerson(ALICE).build();
+        jsonAddressBookStorage.saveAddressBook(saved);
+        jsonAddressBookStorage.saveAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        Files.delete(filePath);
+
+        assertEquals(saved, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_newestValidBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("CorruptAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook older = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook newer = new AddressBookBuilder().withPerson(BENSON).build();
+        jsonAddressBookStorage.saveAddressBook(older);
+        jsonAddressBookStorage.saveAddressBook(newer);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        FileUtil.writeToFile(filePath, "{ \"persons\": [");
+        assertEquals(newer, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        FileUtil.writeToFile(JsonAddressBookStorage.getBackupFilePath(filePath, 1), "Not a json file!");
+        assertEquals(older, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class WriteBehindAddressBookStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDelegate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_laterChangesToSource_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook source = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook expected = new AddressBook(source);
+
+        storage.saveAddressBook(source);
+        source.addPerson(BENSON);
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        BlockingStorageStub delegate = new BlockingStorageStub(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate);
+
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        assertTrue(delegate.firstSaveStarted.await(5, TimeUnit.SECONDS));
+
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        AddressBook latest = new AddressBookBuilder().withPerson(CARL).build();
+        storage.saveAddressBook(latest);
+        delegate.releaseFirstSave.countDown();
+        storage.close();
+
+        assertEquals(2, delegate.savedAddressBooks.size());
+        assertEquals(latest, new AddressBook(delegate.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundSaveFailed_failureReportedOnNextSave() throws Exception {
+        FailingStorageStub delegate = new FailingStorageStub(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, new DirectExecutorService());
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () ->
+                storage.saveAddressBook(new AddressBook()));
+    }
+
+    @Test
+    public void checkForSaveFailure_backgroundSaveFailed_throwsAndRetries() throws Exception {
+        FailingStorageStub delegate = new FailingStorageStub(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, new DirectExecutorService());
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::checkForSaveFailure);
+        assertEquals(2, delegate.attempts);
+    }
+
+    @Test
+    public void checkForSaveFailure_backgroundSaveSucceeded_doesNotThrow() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), new DirectExecutorService());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.checkForSaveFailure();
+    }
+
+    @Test
+    public void flush_backgroundSaveFailed_retriesAndThrows() throws Exception {
+        FailingStorageStub delegate = new FailingStorageStub(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(delegate, new DirectExecutorService());
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertEquals(2, delegate.attempts);
+    }
+
+    /**
+     * A storage whose first save blocks until released, and which records every saved address book.
+     */
+    private static class BlockingStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+
+        BlockingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (firstSaveStarted.getCount() > 0) {
+                firstSaveStarted.countDown();
+                try {
+                    releaseFirstSave.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            savedAddressBooks.add(addressBook);
+        }
+    }
+
+    /**
+     * A storage that always fails to save.
+     */
+    private static class FailingStorageStub extends JsonAddressBookStorage {
+        private int attempts;
+
+        FailingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            attempts++;
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * Runs every task immediately on the calling thread, making background writes deterministic.
+     */
+    private static class DirectExecutorService extends AbstractExecutorService {
+        private boolean isShutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            isShutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            isShutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}